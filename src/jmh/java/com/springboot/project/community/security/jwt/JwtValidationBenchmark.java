@@ -0,0 +1,87 @@
+package com.springboot.project.community.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 의 요청당 토큰 처리 비용 비교
+ *
+ * - legacyFilterPath : 이전 필터 경로 (validateToken / getUserIdFromToken / getRoles 각각
+ *                      parserBuilder().build() 후 서명 검증 → 파서 생성 3회 + 서명 검증 3회)
+ * - threeCalls       : 공유 파서로 같은 3번 호출 (파서 생성 0회 + 서명 검증 3회)
+ * - verifyOnce       : JwtTokenProvider.verify (파서 생성 0회 + 서명 검증 1회)
+ * - cachedVerify     : VerifiedTokenCache.verify (같은 토큰 재사용 시 SHA-256 1회, 서명 검증 0회)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "m0R4q7Y2Q4sH9p2P0s1tH3bD9vM7qP1kA4vL0nM8qQ0rC5yX3fS9eW==";
+
+    private JwtTokenProvider provider;
+    private VerifiedTokenCache cache;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 900_000L, 604_800_000L);
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = provider.generateAccessToken(1L, List.of("ROLE_USER"));
+        cache = new VerifiedTokenCache(provider, new SimpleMeterRegistry(), 10_000);
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole bh) {
+        bh.consume(legacyParse(token) != null);
+        bh.consume(Long.parseLong(legacyParse(token).getSubject()));
+        bh.consume(legacyParse(token).get("roles"));
+    }
+
+    @Benchmark
+    public void threeCalls(Blackhole bh) {
+        bh.consume(provider.validateToken(token));
+        bh.consume(provider.getUserIdFromToken(token));
+        bh.consume(provider.getRoles(token));
+    }
+
+    @Benchmark
+    public void verifyOnce(Blackhole bh) {
+        VerifiedToken verified = provider.verify(token).orElseThrow();
+        bh.consume(verified.userId());
+        bh.consume(verified.roles());
+    }
+
+    @Benchmark
+    public void cachedVerify(Blackhole bh) {
+        VerifiedToken verified = cache.verify(token).orElseThrow();
+        bh.consume(verified.userId());
+        bh.consume(verified.roles());
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -4,15 +4,17 @@ import com.springboot.project.community.service.auth.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 /**
  * 인증 인터셉터
  * - 현재 : 세션 기반 인증 체크
- * - 향후 : JWT 필터로 대체 가능
+ * - stateless 모드(auth.stateless=true)에서는 등록하지 않고 JwtAuthenticationFilter 로 대체
  */
 @Component
+@ConditionalOnProperty(name = "auth.stateless", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class AuthenticationInterceptor implements HandlerInterceptor {
 
@@ -0,0 +1,14 @@
+package com.springboot.project.community.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 설정
+ * - 조회수 버퍼 flush 등 주기 작업에 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
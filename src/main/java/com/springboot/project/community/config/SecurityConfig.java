@@ -1,7 +1,9 @@
 package com.springboot.project.community.config;
 
+import com.springboot.project.community.security.PublicRoutes;
 import com.springboot.project.community.security.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +24,11 @@ import java.util.List;
  * - CSRF 비활성화
  * - CORS 정책 명시적 설정 (localhost:3000 허용)
  * - 모든 요청 인증 없이 허용 (추후 인증 정책 추가 가능)
+ *
+ * 인증 모드 (auth.stateless, stateless 프로필에서 true)
+ * - false : 세션 + JWT 병행 (IF_REQUIRED, 동시 세션 1개)
+ * - true  : JWT 만 사용 (STATELESS), 요청마다 세션 저장소를 읽지 않음
+ *           SecurityContext 는 요청 범위에만 두고 세션에 저장하지 않음
  */
 @Configuration
 @EnableWebSecurity
@@ -29,49 +36,38 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PublicRoutes publicRoutes;
 
     /**
      * 보안 필터 체인 설정
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${auth.stateless:false}") boolean stateless) throws Exception {
         http
                 // CSRF 비활성화
                 .csrf(AbstractHttpConfigurer::disable)
 
-                // 세션 정책 : 현재 세션 사용
-                // 향후 JWT로 전환시 SessionCrestionPolicy.STATELESS로 변경
-                .sessionManagement(session -> session
-                        .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
-                        .maximumSessions(1) // 동시 세션 1개로 제한
-                        .maxSessionsPreventsLogin(false) // 새 로그인 시 기존 세션 만료
-                )
+                // 세션 정책
+                // - 세션 모드 : 현재 세션 사용
+                // - stateless 모드 : 세션을 만들거나 읽지 않음 (인증은 JwtAuthenticationFilter 만 사용)
+                .sessionManagement(session -> {
+                    if (stateless) {
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+                    } else {
+                        session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+                                .maximumSessions(1) // 동시 세션 1개로 제한
+                                .maxSessionsPreventsLogin(false); // 새 로그인 시 기존 세션 만료
+                    }
+                })
 
                 // CORS 설정 적용
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
 
                 // 인증 규칙
                 .authorizeHttpRequests(auth -> auth
-                        // 인증 없이 접근 가능
-                        .requestMatchers(
-                                // 인증 API
-                                "/api/auth/signup",
-                                "/api/auth/login",
-                                "/api/auth/refresh",
-                                "/api/auth/check",
-                                "/api/auth/check-email",
-                                "/api/auth/check-nickname",
-                                // 정적 리소스
-                                "/",
-                                "/css/**",
-                                "/js/**",
-                                "/images/**",
-                                "/error"
-                        ).permitAll()
-                        // 게시판 조회만 비로그인 허용 (GET만)
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/boards").permitAll()
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/boards/*").permitAll()
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/boards/*/comments").permitAll()
+                        // 인증 없이 접근 가능 (PublicRoutes 에서 관리, GET 만 허용하는 조회 API 포함)
+                        .requestMatchers(publicRoutes::isPublic).permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -82,7 +78,7 @@ public class SecurityConfig {
 //                        .logoutSuccessUrl("/api/v1/auth/check")
                         .logoutUrl("/api/auth/logout")
                         .logoutSuccessUrl("/api/auth/check")
-                        .invalidateHttpSession(true)
+                        .invalidateHttpSession(!stateless)
                         .deleteCookies("JSESSIONID", "rememberMe")
                 )
 
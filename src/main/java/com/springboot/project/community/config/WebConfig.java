@@ -1,7 +1,9 @@
 package com.springboot.project.community.config;
 
 import com.springboot.project.community.AuthenticationInterceptor;
+import com.springboot.project.community.security.PublicRoutes;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -14,7 +16,8 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    private final AuthenticationInterceptor authenticationInterceptor;
+    // stateless 모드에서는 빈이 없음 (JWT 필터가 인증 처리)
+    private final ObjectProvider<AuthenticationInterceptor> authenticationInterceptor;
 
     /**
      * 인터셉터 등록
@@ -23,28 +26,26 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry){
-        registry.addInterceptor(authenticationInterceptor)
+        AuthenticationInterceptor interceptor = authenticationInterceptor.getIfAvailable();
+        if (interceptor == null) {
+            return;
+        }
+        registry.addInterceptor(interceptor)
                 .addPathPatterns("/api/**") // /api/** 경로에 적용
+                // 인증 없이 접근 가능한 경로 (PublicRoutes)
+                .excludePathPatterns(PublicRoutes.allPatterns())
                 .excludePathPatterns(
-                        // 인증 관련 (로그인 없이 접근 가능)
-                        "/api/auth/signup",
-                        "/api/auth/login",
-                        "/api/auth/refresh",
-                        "/api/auth/check",
-                        "/api/auth/check-email",
-                        "/api/auth/check-nickname",
                         // 인증이 필요한 API는 JWT 필터가 처리하도록 제외
                         "/api/auth/update",
                         "/api/auth/change-password",
                         "/api/auth/me",
                         "/api/auth/logout",
                         "/api/auth/withdraw",
-                        // 게시판 조회만 비로그인 허용 (GET만)
-                        // POST/PUT/DELETE는 인터셉터가 JWT 토큰을 체크함
-                        "/api/boards",
+                        // 게시판 작성/수정/삭제, 댓글, 좋아요는 JWT 필터가 처리
                         "/api/boards/**",
-                        // 에러 페이지
-                        "/error"
+                        // 이미지 업로드는 JWT 필터가 처리
+                        "/api/images",
+                        "/api/images/**"
                 );
     }
 
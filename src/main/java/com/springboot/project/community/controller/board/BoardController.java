@@ -6,7 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -152,14 +152,42 @@ public class BoardController {
     /**
      * 게시글 목록 조회
      * GET /api/boards?page=0&size=10
+     * GET /api/boards?page=0&size=10&slice=true (전체 개수 없이 다음 페이지 존재 여부만)
      */
     @GetMapping
-    public ResponseEntity<Page<BoardListRes>> getPosts(
+    public ResponseEntity<Slice<BoardListRes>> getPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @AuthenticationPrincipal String userIdStr) {
+        try {
+            Long userId = toUserIdOrNull(userIdStr);
+            Slice<BoardListRes> posts = slice
+                    ? boardService.getBoardSlice(page, size, userId)
+                    : boardService.getBoardList(page, size, userId);
+            return ResponseEntity.ok(posts);
+        } catch (Exception e) {
+            log.error("게시글 목록 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 게시글 목록 조회 (커서 기반, 무한 스크롤)
+     * GET /api/boards/cursor?cursor={nextCursor}&size=10
+     * - 첫 페이지는 cursor 없이 요청
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<BoardCursorRes> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal String userIdStr) {
         try {
-            Page<BoardListRes> posts = boardService.getBoardList(page, size);
+            BoardCursorRes posts = boardService.getBoardListByCursor(cursor, size, toUserIdOrNull(userIdStr));
             return ResponseEntity.ok(posts);
+        } catch (IllegalArgumentException e) {
+            log.error("게시글 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("게시글 목록 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().build();
@@ -175,17 +203,7 @@ public class BoardController {
             @PathVariable Long postId,
             @AuthenticationPrincipal String userIdStr) {
         try {
-            // String으로 받은 userId를 Long으로 변환 (로그인하지 않은 경우 null)
-            Long userId = null;
-            if (userIdStr != null && !userIdStr.isBlank()) {
-                try {
-                    userId = Long.valueOf(userIdStr);
-                } catch (NumberFormatException e) {
-                    log.warn("인증된 사용자 ID를 Long으로 변환할 수 없습니다: {}", userIdStr);
-                }
-            }
-            
-            PostRes post = boardService.findById(postId, userId);
+            PostRes post = boardService.findById(postId, toUserIdOrNull(userIdStr));
             return ResponseEntity.ok(post);
         } catch (IllegalArgumentException e) {
             log.error("게시글 조회 실패: {}", e.getMessage());
@@ -195,4 +213,20 @@ public class BoardController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * String으로 받은 userId를 Long으로 변환 (로그인하지 않은 경우 null)
+     */
+    private Long toUserIdOrNull(String userIdStr) {
+        // 비로그인 요청은 익명 인증 토큰의 principal("anonymousUser")이 전달됨
+        if (userIdStr == null || userIdStr.isBlank() || "anonymousUser".equals(userIdStr)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(userIdStr);
+        } catch (NumberFormatException e) {
+            log.warn("인증된 사용자 ID를 Long으로 변환할 수 없습니다: {}", userIdStr);
+            return null;
+        }
+    }
 }
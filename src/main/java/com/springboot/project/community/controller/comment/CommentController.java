@@ -11,7 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 /**
  * 댓글 컨트롤러
@@ -185,14 +184,21 @@ public class CommentController {
     }
 
     /**
-     * 특정 게시글의 댓글 목록 조회
-     * GET /api/boards/{postId}/comments
+     * 특정 게시글의 댓글 목록 조회 (커서 기반)
+     * GET /api/boards/{postId}/comments?cursor={nextCursor}&size=20
+     * - 첫 페이지는 cursor 없이 요청
      */
     @GetMapping
-    public ResponseEntity<List<CommentRes>> getComments(@PathVariable Long postId) {
+    public ResponseEntity<CommentCursorRes> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<CommentRes> comments = commentService.findByPost(postId);
+            CommentCursorRes comments = commentService.findByPost(postId, cursor, size);
             return ResponseEntity.ok(comments);
+        } catch (IllegalArgumentException e) {
+            log.error("댓글 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("댓글 목록 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().build();
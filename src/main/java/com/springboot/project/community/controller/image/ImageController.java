@@ -0,0 +1,105 @@
+package com.springboot.project.community.controller.image;
+
+import com.springboot.project.community.dto.image.ImageUploadRes;
+import com.springboot.project.community.service.image.ImageService;
+import com.springboot.project.community.service.image.ImageStore;
+import com.springboot.project.community.service.image.StoredImage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 컨트롤러
+ * - 이미지 업로드 (multipart)
+ * - 저장소 이미지 조회
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+            "png", MediaType.IMAGE_PNG,
+            "jpg", MediaType.IMAGE_JPEG,
+            "gif", MediaType.IMAGE_GIF,
+            "webp", MediaType.parseMediaType("image/webp")
+    );
+
+    private final ImageStore imageStore;
+    private final ImageService imageService;
+
+    /**
+     * 이미지 업로드
+     * POST /api/images (multipart/form-data, 필드명: file)
+     * - 응답 url 을 게시글 imageUrls / 프로필 image 에 사용
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImageUploadRes> uploadImage(
+            @AuthenticationPrincipal String userIdStr,
+            @RequestParam("file") MultipartFile file) {
+
+        // 인증 확인
+        if (userIdStr == null || userIdStr.isBlank()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 파트 스트림을 그대로 저장소로 전달 (byte[] 로 읽지 않음)
+        try (InputStream in = file.getInputStream()) {
+            StoredImage stored = imageService.upload(in);
+            log.info("이미지 업로드: userId={}, key={}, size={}", userIdStr, stored.key(), stored.size());
+            return ResponseEntity.ok(ImageUploadRes.builder()
+                    .url(stored.url())
+                    .size(stored.size())
+                    .build());
+        } catch (IllegalArgumentException e) {
+            log.error("이미지 업로드 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("이미지 업로드 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 이미지 조회
+     * GET /api/images/{key}
+     * - 키가 내용 해시이므로 내용이 바뀌지 않음 → 장기 캐시 허용
+     */
+    @GetMapping("/{key}")
+    public ResponseEntity<StreamingResponseBody> getImage(@PathVariable String key) {
+        if (!ImageStore.isValidKey(key)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<Long> size = imageStore.size(key);
+        if (size.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String extension = key.substring(key.lastIndexOf('.') + 1);
+        StreamingResponseBody body = out -> imageStore.transferTo(key, Channels.newChannel(out));
+
+        return ResponseEntity.ok()
+                .contentType(MEDIA_TYPES.get(extension))
+                .contentLength(size.get())
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .eTag(key)
+                .body(body);
+    }
+}
@@ -0,0 +1,25 @@
+package com.springboot.project.community.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 목록 응답 DTO
+ * - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 전달
+ * - 전체 개수(totalElements)는 제공하지 않음
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardCursorRes {
+    private List<BoardListRes> boards;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+}
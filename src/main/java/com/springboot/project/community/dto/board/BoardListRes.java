@@ -11,26 +11,28 @@ import java.time.LocalDateTime;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BoardListRes {
     private Long id;
     private String title;
     private String author;
-    private String authorImage; // 작성자 프로필 이미지
-    private String contents;
+    private String authorImage; // 작성자 프로필 이미지 (썸네일)
+    private String thumbnail; // 대표 이미지 썸네일 (이미지가 없으면 null)
+    private String contents; // 목록에서는 본문 미리보기(contents_preview)만 전달
     private Long likes;
     private Long comments;
     private Long views;
     private LocalDateTime createdAt;
+    private Boolean isLiked; // 현재 사용자가 좋아요를 눌렀는지 여부 (로그인하지 않은 경우 null)
 
     // Board와 BoardStats를 받아서 DTO 생성
     public static BoardListRes from(Board board, BoardStats stats) {
         return BoardListRes.builder()
                 .id(board.getPostId())
                 .title(board.getTitle())
-                .contents(board.getContents())
+                .contents(board.getContentsPreview())
                 .author(board.getAuthor().getNickname()) // User의 필드명에 맞게 수정
                 .authorImage(board.getAuthor().getImage()) // 작성자 프로필 이미지
                 .createdAt(board.getCreatedAt())
@@ -47,7 +47,8 @@ public class PostRes {
 
     /** 새 이미지 URL 리스트 (기존 이미지 전부 교체됨) */
     private List<String> imageUrls;
-    private List<CommentRes> comments;
+    private List<CommentRes> comments; // 댓글 첫 페이지
+    private String commentNextCursor;  // 다음 댓글 페이지 커서 (없으면 null)
 
     public static PostRes of(Board board, BoardStats stats, List<CommentRes> comments, Boolean isLiked) {
         List<String> imageUrls = null;
@@ -69,7 +70,7 @@ public class PostRes {
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
                 .likeCount(stats != null ? stats.getLikeCount() : 0L)
-                .commentCount(comments != null ? (long) comments.size() : 0L) // 실제 댓글 수 사용
+                .commentCount(stats != null ? stats.getCommentCount() : 0L) // 댓글은 일부만 내려주므로 통계 값 사용
                 .viewCount(stats != null ? stats.getViewCount() : 0L)
                 .isLiked(isLiked != null ? isLiked : false) // 로그인하지 않은 경우 false
                 .imageUrls(imageUrls)
@@ -0,0 +1,20 @@
+package com.springboot.project.community.dto.comment;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 목록 응답 DTO
+ * - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 전달
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentCursorRes {
+    private List<CommentRes> comments;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+}
@@ -17,7 +17,7 @@ public class CommentRes {
     private Long postId;
     private Long userId;
     private String author;           // 닉네임
-    private String authorImage;
+    private String authorImage;      // 작성자 프로필 이미지 (목록 조회 시 썸네일)
     private String content;
     private LocalDateTime createdAt;
 
@@ -0,0 +1,19 @@
+package com.springboot.project.community.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 업로드 응답 DTO
+ * - url 은 게시글(imageUrls)과 프로필(image)에 그대로 사용
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadRes {
+    private String url;   // 이미지 URL
+    private Long size;    // 바이트 수
+}
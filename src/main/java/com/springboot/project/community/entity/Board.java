@@ -7,8 +7,10 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * 게시판 엔티티 (BOARD)
@@ -49,6 +51,10 @@ public class Board {
     @Column(nullable = false)
     private String contents;
 
+    // 목록 화면용 본문 미리보기 (목록 조회 시 LOB 컬럼을 읽지 않기 위해 별도 저장)
+    @Column(name = "contents_preview", length = 200)
+    private String contentsPreview;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false,
             columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
@@ -60,9 +66,43 @@ public class Board {
     private LocalDateTime updatedAt;
 
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OrderBy("sortOrder ASC")
     @Builder.Default
     private List<BoardImage> images = new ArrayList<>();
 
+    // 미리보기 최대 길이 (문자 수)
+    public static final int PREVIEW_LENGTH = 100;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 작성 시각을 created_at 컬럼 정밀도(TIMESTAMP, 초)에 맞춤
+    // - auditing 리스너가 값을 채운 뒤 실행 → 저장 후 엔티티 / 목록 캐시 이벤트 / 커서의 작성 시각이 DB 값과 같음
+    //   (MySQL 은 소수 초를 반올림하므로 미리 잘라서 보냄)
+    @PrePersist
+    protected void truncateCreatedAt() {
+        if (createdAt != null) {
+            createdAt = createdAt.truncatedTo(ChronoUnit.SECONDS);
+        }
+    }
+
+    // 본문 변경 - 미리보기도 함께 갱신
+    public void changeContents(String contents) {
+        this.contents = contents;
+        this.contentsPreview = createPreview(contents);
+    }
+
+    // 본문 앞부분으로 미리보기 생성 (연속 공백/줄바꿈은 공백 하나로 치환)
+    public static String createPreview(String contents) {
+        if (contents == null) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(contents.strip()).replaceAll(" ");
+        if (normalized.codePointCount(0, normalized.length()) <= PREVIEW_LENGTH) {
+            return normalized;
+        }
+        int end = normalized.offsetByCodePoints(0, PREVIEW_LENGTH);
+        return normalized.substring(0, end) + "...";
+    }
+
     // 연관관계 편의 메서드 - 개별 추가
     public void addImage(BoardImage image) {
         images.add(image);
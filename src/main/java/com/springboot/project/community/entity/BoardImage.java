@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(
         name = "BOARD_IMAGE",
         indexes = {
-                @Index(name = "idx_post", columnList = "post_id, sort_order")
+                @Index(name = "idx_post", columnList = "post_id, sort_order"),
+                @Index(name = "idx_board_image_url", columnList = "image_url") // 썸네일 반영 / 이미지 GC 참조 수 조회
         }
 )
 @Getter
@@ -46,6 +47,10 @@ public class BoardImage {
     @Column(name = "image_url", nullable = false, length = 255)
     private String imageUrl;
 
+    // 목록 화면용 썸네일 URL (없으면 원본 사용)
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
     @Column(name = "sort_order", columnDefinition = "INT DEFAULT 0")
     private Integer sortOrder;
 
@@ -18,7 +18,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "BOARD_LIKE")
+@Table(name = "BOARD_LIKE",
+        indexes = {
+                // 목록 좋아요 여부 일괄 조회 (user_id = ? AND post_id IN (...) AND is_deleted = false)
+                @Index(name = "idx_board_like_user", columnList = "user_id, post_id, is_deleted")
+        })
 @Getter
 @Setter
 @Builder
@@ -21,7 +21,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
         name = "COMMENT",
         indexes = {
                 @Index(name = "idx_comment_user", columnList = "user_id"),
-                @Index(name = "idx_comment_board", columnList = "post_id")
+                // 게시글별 댓글 커서 조회용 (post_id, created_at, comment_id)
+                @Index(name = "idx_comment_board_created", columnList = "post_id, created_at, comment_id")
         }
 )
 @Getter
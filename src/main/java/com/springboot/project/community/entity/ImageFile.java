@@ -16,7 +16,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "IMAGE_FILE")
+@Table(
+        name = "IMAGE_FILE",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_file_url", columnNames = "url")
+)
 @Getter
 @Setter
 @Builder
@@ -32,6 +35,10 @@ public class ImageFile {
     @Column(nullable = false, length = 255)
     private String url;
 
+    // 썸네일 URL (생성 전이거나 원본이 충분히 작으면 null)
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
     @Column(name = "ref_count", columnDefinition = "INT UNSIGNED DEFAULT 1")
     private Integer refCount;
 
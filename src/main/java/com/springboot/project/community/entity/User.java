@@ -17,7 +17,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "USERS")
+@Table(
+        name = "USERS",
+        indexes = {
+                @Index(name = "idx_users_image", columnList = "image") // 이미지 GC 참조 수 조회
+        }
+)
 @Getter
 @Setter
 @Builder
@@ -39,9 +44,8 @@ public class User {
     @Column(nullable = false, unique = true, length = 50)
     private String nickname;
 
-    // Base64 이미지 문자열을 저장하기 때문에 TEXT 타입으로 변경
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
+    // 프로필 이미지 URL (바이너리는 ImageStore 에 저장)
+    @Column(length = 255)
     private String image;
 
     @Column(name = "use_yn", columnDefinition = "TINYINT(1) DEFAULT 0")
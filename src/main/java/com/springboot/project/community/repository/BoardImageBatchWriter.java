@@ -0,0 +1,73 @@
+package com.springboot.project.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 이미지 JDBC 배치 쓰기
+ *
+ * - BOARD_IMAGE 다건 추가/삭제/순서 변경을 JDBC 배치로 실행
+ * - 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 Board.images 컬렉션을 다시 사용하지 않아야 한다.
+ * - 빈 목록이면 아무 쿼리도 실행하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardImageBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 추가할 이미지 행 */
+    public record NewImage(String imageUrl, String thumbnailUrl, int sortOrder) {
+    }
+
+    /** 순서 변경 (image_id → sort_order) */
+    public record SortOrderChange(Integer imageId, int sortOrder) {
+    }
+
+    public void insertAll(Long postId, Long userId, List<NewImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO BOARD_IMAGE (post_id, user_id, image_url, thumbnail_url, sort_order, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                images, images.size(),
+                (ps, image) -> {
+                    ps.setLong(1, postId);
+                    ps.setObject(2, userId);
+                    ps.setString(3, image.imageUrl());
+                    ps.setString(4, image.thumbnailUrl());
+                    ps.setInt(5, image.sortOrder());
+                    ps.setTimestamp(6, now);
+                });
+    }
+
+    public void deleteAllById(List<Integer> imageIds) {
+        if (imageIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM BOARD_IMAGE WHERE image_id = ?",
+                imageIds, imageIds.size(),
+                (ps, imageId) -> ps.setInt(1, imageId));
+    }
+
+    public void updateSortOrders(List<SortOrderChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE BOARD_IMAGE SET sort_order = ? WHERE image_id = ?",
+                changes, changes.size(),
+                (ps, change) -> {
+                    ps.setInt(1, change.sortOrder());
+                    ps.setInt(2, change.imageId());
+                });
+    }
+}
@@ -2,8 +2,12 @@ package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.BoardImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,4 +17,13 @@ import java.util.List;
 public interface BoardImageRepository extends JpaRepository<BoardImage, Integer> {
     List<BoardImage> findByBoard_PostIdOrderBySortOrderAsc(Long postId);
     void deleteByBoard_PostId(Long postId);
+
+    // URL 별 참조 수 (이미지 GC), 결과: [image_url, count]
+    @Query("SELECT bi.imageUrl, COUNT(bi) FROM BoardImage bi WHERE bi.imageUrl IN :urls GROUP BY bi.imageUrl")
+    List<Object[]> countByImageUrlIn(@Param("urls") Collection<String> urls);
+
+    // 썸네일 생성 완료 시 해당 이미지를 사용하는 게시글 이미지에 반영
+    @Modifying
+    @Query("UPDATE BoardImage bi SET bi.thumbnailUrl = :thumbnailUrl WHERE bi.imageUrl = :imageUrl")
+    int updateThumbnailUrl(@Param("imageUrl") String imageUrl, @Param("thumbnailUrl") String thumbnailUrl);
 }
@@ -2,9 +2,18 @@ package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.BoardLike;
 import com.springboot.project.community.entity.BoardLikeId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  *  좋아요 Repository
  */
@@ -18,4 +27,50 @@ public interface BoardLikeRepository extends JpaRepository<BoardLike, BoardLikeI
      * 특정 사용자가 특정 게시글에 좋아요를 눌렀는지 확인 (삭제되지 않은 것만)
      */
     boolean existsByLikeId_UserIdAndLikeId_PostIdAndDeletedFalse(Long userId, Long postId);
+
+    /**
+     * 여러 게시글 중 특정 사용자가 좋아요를 누른 게시글 ID (삭제되지 않은 것만)
+     * - 목록 한 페이지의 좋아요 여부를 한 번의 쿼리로 조회
+     * - idx_board_like_user (user_id, post_id, is_deleted) 커버링 인덱스로 처리
+     */
+    @Query("SELECT l.likeId.postId FROM BoardLike l " +
+            "WHERE l.likeId.userId = :userId AND l.likeId.postId IN :postIds AND l.deleted = false")
+    Set<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 특정 사용자가 좋아요를 누른 모든 게시글 ID (삭제되지 않은 것만, 최대 pageable 크기만큼)
+     * - LikedPostCache 적재용
+     */
+    @Query("SELECT l.likeId.postId FROM BoardLike l WHERE l.likeId.userId = :userId AND l.deleted = false")
+    List<Long> findLikedPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 좋아요 토글 (Native Query 단일 upsert)
+     * - 행이 없으면 좋아요 상태로 생성, 있으면 is_deleted 반전
+     * - 같은 사용자의 동시 토글은 행 락으로 직렬화
+     * - 존재하지 않는 게시글이면 외래키 위반
+     */
+    @Modifying
+    @Query(value = "INSERT INTO BOARD_LIKE (user_id, post_id, is_deleted, updated_at) " +
+            "VALUES (:userId, :postId, FALSE, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE is_deleted = NOT is_deleted, updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int toggle(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 토글 후 좋아요 상태 + 반영 전 좋아요 수 (통계 행이 없으면 0)
+     */
+    @Query(value = "SELECT l.is_deleted AS deleted, COALESCE(s.like_count, 0) AS likeCount " +
+            "FROM BOARD_LIKE l LEFT JOIN BOARD_STATS s ON s.post_id = l.post_id " +
+            "WHERE l.user_id = :userId AND l.post_id = :postId",
+            nativeQuery = true)
+    Optional<LikeState> findLikeState(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 상태 조회 결과
+     */
+    interface LikeState {
+        Boolean getDeleted();
+        Long getLikeCount();
+    }
 }
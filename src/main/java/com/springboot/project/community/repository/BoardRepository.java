@@ -1,8 +1,11 @@
 package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.Board;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,8 +14,24 @@ import java.util.List;
  *  게시글 Repository
  */
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
 //    List<Board> findAllByOrderByCreatedAtDesc();
     @Query("SELECT b FROM Board b ORDER BY b.id DESC")
     List<Board> findAllDesc();
+
+    /**
+     * 미리보기가 비어 있는 게시글 조회 (미리보기 백필용)
+     * - [0] postId, [1] contents
+     */
+    @Query("SELECT b.postId, b.contents FROM Board b " +
+            "WHERE b.contentsPreview IS NULL AND b.postId > :lastPostId ORDER BY b.postId ASC")
+    List<Object[]> findPreviewBackfillTargets(@Param("lastPostId") Long lastPostId, Pageable pageable);
+
+    /**
+     * 미리보기 갱신 (미리보기 백필용)
+     * - updated_at 의 ON UPDATE CURRENT_TIMESTAMP 가 동작하지 않도록 기존 값을 그대로 지정
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.contentsPreview = :preview, b.updatedAt = b.updatedAt WHERE b.postId = :postId")
+    int updateContentsPreview(@Param("postId") Long postId, @Param("preview") String preview);
 }
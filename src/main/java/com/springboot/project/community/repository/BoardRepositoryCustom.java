@@ -0,0 +1,63 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardStats;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ *  게시글 QueryDSL 커스텀 Repository
+ */
+public interface BoardRepositoryCustom {
+
+    /**
+     * 게시글 목록 조회 (페이지 번호 기반)
+     * - BOARD + USERS + BOARD_STATS 를 한 번의 쿼리로 조인하여 BoardListRes 로 바로 조회
+     * - 작성자(LAZY) 개별 조회로 인한 N+1 없음
+     */
+    Page<BoardListRes> findBoardList(Pageable pageable);
+
+    /**
+     * 게시글 목록 조회 (페이지 번호 기반, 전체 개수는 호출 측에서 제공)
+     * - COUNT(*) 대신 유지 중인 게시글 수(BoardCounter)를 사용할 때 사용
+     * - 마지막 페이지 등 전체 개수가 필요 없으면 totalSupplier 를 호출하지 않음
+     */
+    Page<BoardListRes> findBoardList(Pageable pageable, LongSupplier totalSupplier);
+
+    /**
+     * 게시글 목록 조회 (Slice, 다음 페이지 존재 여부만)
+     * - size + 1 개를 조회하여 다음 페이지 여부 판단, COUNT 쿼리 없음
+     */
+    Slice<BoardListRes> findBoardSlice(Pageable pageable);
+
+    /**
+     * 커서 기반 게시글 목록 조회 (무한 스크롤)
+     * - (created_at, post_id) 내림차순 seek 방식, COUNT 쿼리 없음
+     * - 다음 페이지 존재 여부 판단을 위해 호출 측에서 size + 1 만큼 요청
+     *
+     * @param cursorCreatedAt 마지막으로 받은 게시글의 작성 시각 (첫 페이지면 null)
+     * @param cursorPostId    마지막으로 받은 게시글의 ID (첫 페이지면 null)
+     * @param limit           조회할 최대 개수
+     */
+    List<BoardListRes> findBoardListByCursor(LocalDateTime cursorCreatedAt, Long cursorPostId, int limit);
+
+    /**
+     * 게시글 상세 조회
+     * - 게시글 + 작성자 + 이미지(fetch join) + 통계를 한 번의 쿼리로 조회
+     * - 통계 행이 없으면 stats 는 null
+     */
+    Optional<BoardDetail> findDetailById(Long postId);
+
+    /**
+     * 상세 조회 결과 (게시글 + 통계)
+     */
+    record BoardDetail(Board board, BoardStats stats) {
+    }
+}
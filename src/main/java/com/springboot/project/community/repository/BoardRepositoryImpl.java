@@ -0,0 +1,152 @@
+package com.springboot.project.community.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.entity.QBoardImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import static com.springboot.project.community.entity.QBoard.board;
+import static com.springboot.project.community.entity.QBoardImage.boardImage;
+import static com.springboot.project.community.entity.QBoardStats.boardStats;
+import static com.springboot.project.community.entity.QImageFile.imageFile;
+import static com.springboot.project.community.entity.QUser.user;
+
+/**
+ *  게시글 QueryDSL Repository 구현체
+ */
+@RequiredArgsConstructor
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<BoardListRes> findBoardList(Pageable pageable) {
+        JPAQuery<Long> countQuery = queryFactory
+                .select(board.count())
+                .from(board);
+
+        return findBoardList(pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Page<BoardListRes> findBoardList(Pageable pageable, LongSupplier totalSupplier) {
+        List<BoardListRes> content = selectBoardList()
+                .orderBy(board.createdAt.desc(), board.postId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 마지막 페이지 등 전체 개수가 필요 없는 경우 COUNT 생략
+        return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
+    }
+
+    @Override
+    public Slice<BoardListRes> findBoardSlice(Pageable pageable) {
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<BoardListRes> content = selectBoardList()
+                .orderBy(board.createdAt.desc(), board.postId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<BoardListRes> findBoardListByCursor(LocalDateTime cursorCreatedAt, Long cursorPostId, int limit) {
+        return selectBoardList()
+                .where(
+                        afterCursor(cursorCreatedAt, cursorPostId) // 무한 스크롤 커서 조건
+                )
+                // idx_created(created_at) 는 InnoDB 특성상 PK(post_id)를 포함하므로
+                // (created_at, post_id) 정렬을 인덱스 순서 그대로 읽는다.
+                .orderBy(board.createdAt.desc(), board.postId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<BoardDetail> findDetailById(Long postId) {
+        // 이미지 컬렉션 fetch join 으로 이미지 수만큼 행이 반환되지만 Board 인스턴스는 하나
+        List<Tuple> rows = queryFactory
+                .select(board, boardStats)
+                .from(board)
+                .join(board.author, user).fetchJoin()
+                .leftJoin(board.images, boardImage).fetchJoin()
+                .leftJoin(boardStats).on(boardStats.postId.eq(board.postId))
+                .where(board.postId.eq(postId))
+                .fetch();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Tuple row = rows.get(0);
+        return Optional.of(new BoardDetail(row.get(board), row.get(boardStats)));
+    }
+
+    /**
+     * 목록 화면용 DTO 프로젝션
+     * - BoardListRes 에 필요한 컬럼만 조회 (엔티티 로딩 없음)
+     * - 본문은 contents_preview 만 조회하고 contents(LOB)는 읽지 않음
+     * - 통계가 아직 없는 게시글은 0 으로 표시
+     * - 작성자 이미지 / 대표 이미지는 썸네일 우선 (썸네일이 없으면 원본)
+     */
+    private JPAQuery<BoardListRes> selectBoardList() {
+        // 대표 이미지: sort_order 0 중 image_id 가 가장 작은 이미지 (게시글당 최대 1행)
+        QBoardImage firstImage = new QBoardImage("firstImage");
+
+        return queryFactory
+                .select(Projections.fields(BoardListRes.class,
+                        board.postId.as("id"),
+                        board.title,
+                        user.nickname.as("author"),
+                        imageFile.thumbnailUrl.coalesce(user.image).as("authorImage"),
+                        boardImage.thumbnailUrl.coalesce(boardImage.imageUrl).as("thumbnail"),
+                        board.contentsPreview.as("contents"), // 본문(LOB) 대신 미리보기만 조회
+                        boardStats.likeCount.coalesce(0L).as("likes"),
+                        boardStats.commentCount.coalesce(0L).as("comments"),
+                        boardStats.viewCount.coalesce(0L).as("views"),
+                        board.createdAt))
+                .from(board)
+                .join(board.author, user)
+                .leftJoin(imageFile).on(imageFile.url.eq(user.image))
+                .leftJoin(boardImage).on(boardImage.imageId.eq(
+                        JPAExpressions.select(firstImage.imageId.min())
+                                .from(firstImage)
+                                .where(firstImage.board.eq(board), firstImage.sortOrder.eq(0))))
+                .leftJoin(boardStats).on(boardStats.postId.eq(board.postId));
+    }
+
+    /**
+     * 무한 스크롤 커서 조건
+     * - 첫 페이지(커서가 null)인 경우 조건을 추가하지 않음
+     * - 이후 페이지는 (created_at, post_id) 가 커서보다 작은 게시글만 조회
+     *   → 같은 시각에 작성된 게시글이 여러 개여도 누락/중복 없음
+     */
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, Long cursorPostId) {
+        if (cursorCreatedAt == null || cursorPostId == null) {
+            return null; // QueryDSL은 null 조건을 무시함
+        }
+        return board.createdAt.lt(cursorCreatedAt)
+                .or(board.createdAt.eq(cursorCreatedAt).and(board.postId.lt(cursorPostId)));
+    }
+}
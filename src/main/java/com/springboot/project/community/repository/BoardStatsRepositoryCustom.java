@@ -0,0 +1,30 @@
+package com.springboot.project.community.repository;
+
+import java.util.Map;
+
+/**
+ *  게시글 통계 커스텀 Repository
+ */
+public interface BoardStatsRepositoryCustom {
+
+    /**
+     * 여러 게시글의 조회수 / 좋아요 수 / 댓글 수를 한 번에 증감 (멀티 로우 UPDATE)
+     * - 통계 행이 없는 게시글은 먼저 생성 (삭제된 게시글은 무시)
+     * - 좋아요 수 / 댓글 수는 0 미만으로 내려가지 않음
+     *
+     * @param deltas postId → 증감분
+     */
+    void addStatsDeltas(Map<Long, StatsDelta> deltas);
+
+    /**
+     * 게시글 하나의 통계 증감분
+     */
+    record StatsDelta(long views, long likes, long comments) {
+
+        public static final StatsDelta ZERO = new StatsDelta(0, 0, 0);
+
+        public boolean isZero() {
+            return views == 0 && likes == 0 && comments == 0;
+        }
+    }
+}
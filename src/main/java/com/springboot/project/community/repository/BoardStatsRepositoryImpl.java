@@ -0,0 +1,90 @@
+package com.springboot.project.community.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  게시글 통계 커스텀 Repository 구현체
+ */
+public class BoardStatsRepositoryImpl implements BoardStatsRepositoryCustom {
+
+    // 한 번의 SQL 에 포함할 최대 게시글 수
+    private static final int CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public void addStatsDeltas(Map<Long, StatsDelta> deltas) {
+        List<Map.Entry<Long, StatsDelta>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, StatsDelta>> chunk = entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size()));
+            createMissingStats(chunk);
+            addDeltas(chunk);
+        }
+    }
+
+    /**
+     * 통계 행이 없는 게시글만 생성 (BOARD 에 존재하는 게시글만 대상)
+     * INSERT IGNORE INTO BOARD_STATS (...) SELECT post_id, 0, 0, 0 FROM BOARD WHERE post_id IN (?, ?, ...)
+     */
+    private void createMissingStats(List<Map.Entry<Long, StatsDelta>> chunk) {
+        String sql = "INSERT IGNORE INTO BOARD_STATS (post_id, view_count, like_count, comment_count) "
+                + "SELECT post_id, 0, 0, 0 FROM BOARD WHERE post_id IN (" + placeholders(chunk.size()) + ")";
+        Query query = em.createNativeQuery(sql);
+        int idx = 1;
+        for (Map.Entry<Long, StatsDelta> entry : chunk) {
+            query.setParameter(idx++, entry.getKey());
+        }
+        query.executeUpdate();
+    }
+
+    /**
+     * 통계 일괄 증감
+     * UPDATE BOARD_STATS SET
+     *   view_count = view_count + CASE post_id WHEN ? THEN ? ... ELSE 0 END,
+     *   like_count = GREATEST(like_count + CASE post_id WHEN ? THEN ? ... ELSE 0 END, 0),
+     *   comment_count = GREATEST(comment_count + CASE post_id WHEN ? THEN ? ... ELSE 0 END, 0)
+     * WHERE post_id IN (?, ...)
+     */
+    private void addDeltas(List<Map.Entry<Long, StatsDelta>> chunk) {
+        String sql = "UPDATE BOARD_STATS SET"
+                + " view_count = view_count + " + caseByPostId(chunk.size())
+                + ", like_count = GREATEST(like_count + " + caseByPostId(chunk.size()) + ", 0)"
+                + ", comment_count = GREATEST(comment_count + " + caseByPostId(chunk.size()) + ", 0)"
+                + " WHERE post_id IN (" + placeholders(chunk.size()) + ")";
+
+        Query query = em.createNativeQuery(sql);
+        int idx = 1;
+        for (Map.Entry<Long, StatsDelta> entry : chunk) {
+            query.setParameter(idx++, entry.getKey());
+            query.setParameter(idx++, entry.getValue().views());
+        }
+        for (Map.Entry<Long, StatsDelta> entry : chunk) {
+            query.setParameter(idx++, entry.getKey());
+            query.setParameter(idx++, entry.getValue().likes());
+        }
+        for (Map.Entry<Long, StatsDelta> entry : chunk) {
+            query.setParameter(idx++, entry.getKey());
+            query.setParameter(idx++, entry.getValue().comments());
+        }
+        for (Map.Entry<Long, StatsDelta> entry : chunk) {
+            query.setParameter(idx++, entry.getKey());
+        }
+        query.executeUpdate();
+    }
+
+    private static String caseByPostId(int count) {
+        return "CASE post_id" + " WHEN ? THEN ?".repeat(count) + " ELSE 0 END";
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
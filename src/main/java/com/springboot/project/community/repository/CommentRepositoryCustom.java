@@ -0,0 +1,26 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.dto.comment.CommentRes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ *  댓글 QueryDSL 커스텀 Repository
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * 커서 기반 댓글 조회 (작성 순)
+     * - (created_at, comment_id) 오름차순 seek 방식, idx_comment_board_created 사용
+     * - COMMENT + USERS 단일 조인 쿼리로 CommentRes 를 바로 조회 (작성자 N+1 없음)
+     * - 작성자 이미지는 IMAGE_FILE 썸네일 우선
+     * - 다음 페이지 존재 여부 판단을 위해 호출 측에서 size + 1 만큼 요청
+     *
+     * @param postId             게시글 ID
+     * @param cursorCreatedAt    마지막으로 받은 댓글의 작성 시각 (첫 페이지면 null)
+     * @param cursorCommentId    마지막으로 받은 댓글의 ID (첫 페이지면 null)
+     * @param limit              조회할 최대 개수
+     */
+    List<CommentRes> findCommentsByCursor(Long postId, LocalDateTime cursorCreatedAt, Long cursorCommentId, int limit);
+}
@@ -0,0 +1,61 @@
+package com.springboot.project.community.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.project.community.dto.comment.CommentRes;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.springboot.project.community.entity.QComment.comment;
+import static com.springboot.project.community.entity.QImageFile.imageFile;
+import static com.springboot.project.community.entity.QUser.user;
+
+/**
+ *  댓글 QueryDSL Repository 구현체
+ */
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CommentRes> findCommentsByCursor(Long postId, LocalDateTime cursorCreatedAt, Long cursorCommentId, int limit) {
+        return queryFactory
+                // CommentRes 에 필요한 컬럼만 조회 (엔티티 로딩 없음)
+                .select(Projections.fields(CommentRes.class,
+                        comment.commentId,
+                        comment.board.postId.as("postId"), // FK 컬럼 사용, BOARD 조인 없음
+                        user.userId.as("userId"),
+                        user.nickname.as("author"),
+                        imageFile.thumbnailUrl.coalesce(user.image).as("authorImage"), // 썸네일 우선
+                        comment.contents.as("content"),
+                        comment.createdAt))
+                .from(comment)
+                // 작성자 정보 조인 (탈퇴 등으로 작성자가 없는 댓글도 포함)
+                .leftJoin(comment.author, user)
+                .leftJoin(imageFile).on(imageFile.url.eq(user.image))
+                .where(
+                        comment.board.postId.eq(postId),
+                        afterCursor(cursorCreatedAt, cursorCommentId)
+                )
+                .orderBy(comment.createdAt.asc(), comment.commentId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 커서 조건
+     * - 첫 페이지(커서가 null)인 경우 조건을 추가하지 않음
+     * - 이후 페이지는 (created_at, comment_id) 가 커서보다 큰 댓글만 조회
+     */
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, Long cursorCommentId) {
+        if (cursorCreatedAt == null || cursorCommentId == null) {
+            return null; // QueryDSL은 null 조건을 무시함
+        }
+        return comment.createdAt.gt(cursorCreatedAt)
+                .or(comment.createdAt.eq(cursorCreatedAt).and(comment.commentId.gt(cursorCommentId)));
+    }
+}
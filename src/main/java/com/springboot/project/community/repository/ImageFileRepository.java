@@ -1,12 +1,17 @@
 package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.ImageFile;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,12 +20,47 @@ import java.util.Optional;
  */
 @Repository
 public interface ImageFileRepository extends JpaRepository<ImageFile, Integer> {
-    Optional<ImageFile> findByUrl(String url);
-    
+    List<ImageFile> findByUrlIn(Collection<String> urls);
+
     @Modifying
-    @Query("UPDATE ImageFile i SET i.refCount = i.refCount + 1 WHERE i.imageId = :imageId")
-    void incrementRefCount(@Param("imageId") Integer imageId);
+    @Query("UPDATE ImageFile i SET i.thumbnailUrl = :thumbnailUrl WHERE i.url = :url")
+    int updateThumbnailUrl(@Param("url") String url, @Param("thumbnailUrl") String thumbnailUrl);
+
+    /**
+     * 이미지 등록 (Native Query 단일 upsert)
+     * - 행이 없으면 ref_count 1 로 생성, 있으면 ref_count 증가 + 삭제 대기 상태 해제
+     * - 같은 내용을 동시에 업로드해도 uk_image_file_url 위반 없이 행 락으로 직렬화
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO IMAGE_FILE (url, ref_count, is_active, created_at) " +
+            "VALUES (:url, 1, TRUE, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, is_active = TRUE, deleted_at = NULL",
+            nativeQuery = true)
+    int upsertRef(@Param("url") String url);
+
+    @Query("SELECT i.thumbnailUrl FROM ImageFile i WHERE i.url = :url")
+    Optional<String> findThumbnailUrlByUrl(@Param("url") String url);
     
+    // ==================== 이미지 GC ====================
+
+    // image_id 순 배치 조회 (참조 수 재계산 대상)
+    List<ImageFile> findByImageIdGreaterThanOrderByImageIdAsc(Integer imageId, Pageable pageable);
+
+    // 삭제 대기 기간이 지난 이미지 (물리 삭제 대상)
+    // 삭제까지 행을 잠가 그 사이 재등록(upsertRef) / 재계산이 삭제 대상 행을 바꾸지 못하게 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ImageFile> findByIsActiveFalseAndDeletedAtBeforeOrderByImageIdAsc(LocalDateTime deletedBefore, Pageable pageable);
+
+    boolean existsByUrlOrThumbnailUrl(String url, String thumbnailUrl);
+
+    // 재계산 결과만 반영 (썸네일 등 다른 컬럼은 건드리지 않음)
+    @Modifying
+    @Query("UPDATE ImageFile i SET i.refCount = :refCount, i.isActive = :active, i.deletedAt = :deletedAt WHERE i.imageId = :imageId")
+    int updateReconciled(@Param("imageId") Integer imageId,
+                         @Param("refCount") Integer refCount,
+                         @Param("active") Boolean active,
+                         @Param("deletedAt") LocalDateTime deletedAt);
+
     // User 관계가 있는 경우에만 사용 가능
     // List<ImageFile> findByUser_UserId(Long userId);
     // List<ImageFile> findByUser_UserIdOrderByCreatedAtAsc(Long userId);
@@ -2,8 +2,12 @@ package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,4 +18,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    // 프로필 이미지 URL 별 참조 수 (이미지 GC), 결과: [image, count]
+    @Query("SELECT u.image, COUNT(u) FROM User u WHERE u.image IN :urls GROUP BY u.image")
+    List<Object[]> countByImageIn(@Param("urls") Collection<String> urls);
 }
@@ -0,0 +1,94 @@
+package com.springboot.project.community.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록 (SecurityConfig / JwtAuthenticationFilter / WebConfig 공용)
+ *
+ * - 경로 패턴은 시작 시 한 번만 PathPattern 으로 컴파일
+ * - 요청 경로는 컨텍스트 경로를 제외한 URI 를 호출마다 PathContainer 로 파싱
+ *   (요청 속성에 캐시하지 않음 → ERROR / FORWARD 디스패치나 MVC 의 경로 파싱에 영향 없음)
+ * - 매칭 시 정규식 컴파일 / 반복자 생성 없음
+ */
+@Component
+public class PublicRoutes {
+
+    /** 모든 메서드 허용 (인증 API, 정적 리소스, 에러 페이지) */
+    public static final List<String> ANY_METHOD = List.of(
+            // 인증 API
+            "/api/auth/signup",
+            "/api/auth/login",
+            "/api/auth/refresh",
+            "/api/auth/check",
+            "/api/auth/check-email",
+            "/api/auth/check-nickname",
+            // 정적 리소스
+            "/",
+            "/css/**",
+            "/js/**",
+            "/images/**",
+            "/error/**"
+    );
+
+    /** GET 만 허용 (게시판 / 댓글 / 이미지 조회) */
+    public static final List<String> GET_ONLY = List.of(
+            "/api/boards",
+            "/api/boards/cursor",
+            "/api/boards/{postId}",
+            "/api/boards/{postId}/comments",
+            "/api/images/{key}"
+    );
+
+    private final PathPattern[] anyMethod = compile(ANY_METHOD);
+    private final PathPattern[] getOnly = compile(GET_ONLY);
+
+    /**
+     * 인증 없이 접근 가능한 요청인지
+     */
+    public boolean isPublic(HttpServletRequest request) {
+        PathContainer path = pathWithinApplication(request);
+        if (matchesAny(anyMethod, path)) {
+            return true;
+        }
+        return HttpMethod.GET.matches(request.getMethod()) && matchesAny(getOnly, path);
+    }
+
+    /**
+     * 메서드 구분 없이 공개 경로 패턴 전체 (인터셉터 제외 경로 등록용)
+     */
+    public static List<String> allPatterns() {
+        return Stream.concat(ANY_METHOD.stream(), GET_ONLY.stream()).toList();
+    }
+
+    private static PathContainer pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (!contextPath.isEmpty() && uri.startsWith(contextPath)) {
+            uri = uri.substring(contextPath.length());
+        }
+        return PathContainer.parsePath(uri);
+    }
+
+    private static boolean matchesAny(PathPattern[] patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PathPattern[] compile(List<String> patterns) {
+        return patterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toArray(PathPattern[]::new);
+    }
+}
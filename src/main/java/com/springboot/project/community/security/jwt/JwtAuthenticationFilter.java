@@ -1,5 +1,7 @@
 package com.springboot.project.community.security.jwt;
 
+import com.springboot.project.community.security.PublicRoutes;
+import com.springboot.project.community.trace.RequestTrace;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,19 +17,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * JWT 인증 필터
+ * - 요청마다 실행되므로 상세 로그는 DEBUG (요청 단위 추적은 RequestTraceFilter 샘플링 로그)
  */
 @Slf4j
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PublicRoutes publicRoutes;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache, PublicRoutes publicRoutes) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.publicRoutes = publicRoutes;
     }
 
     @Override
@@ -38,27 +44,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String requestPath = request.getRequestURI();
         
-        // **수정된 로직:** 인증이 필요 없는 경로는 필터 건너뛰기
-        if (shouldSkipFilter(request, requestPath)) {
+        // 인증이 필요 없는 경로는 토큰이 없으면 필터 건너뛰기
+        // (토큰이 있으면 인증 정보 설정 → 게시글 조회 시 좋아요 여부 등에 사용)
+        if (request.getHeader("Authorization") == null && publicRoutes.isPublic(request)) {
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
             String token = getJwtFromRequest(request);            
-            log.info("JWT 필터 실행: path={}, method={}, token 존재={}", requestPath, request.getMethod(), token != null);
+            log.debug("JWT 필터 실행: path={}, method={}, token 존재={}", requestPath, request.getMethod(), token != null);
 
             if (token != null) {
-                boolean isValid = jwtTokenProvider.validateToken(token);
-                log.info("토큰 검증 결과: path={}, valid={}", requestPath, isValid);
+                // 서명 검증 + 파싱 1회, 같은 토큰이면 캐시 사용 (userId / 권한은 검증 결과에서 꺼냄)
+                Optional<VerifiedToken> verified = verifiedTokenCache.verify(token);
+                log.debug("토큰 검증 결과: path={}, valid={}", requestPath, verified.isPresent());
                 
-                if (isValid) {
-                    Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                    log.info("토큰 검증 성공: userId={}", userId);
+                if (verified.isPresent()) {
+                    Long userId = verified.get().userId();
+                    log.debug("토큰 검증 성공: userId={}", userId);
+                    RequestTrace.setUserId(userId);
 
                     // JWT에서 권한 추출
-                    List<String> roles = jwtTokenProvider.getRoles(token);
-                    List<SimpleGrantedAuthority> authorities = roles.stream()
+                    List<SimpleGrantedAuthority> authorities = verified.get().roles().stream()
                             .map(SimpleGrantedAuthority::new)
                             .collect(Collectors.toList());
 
@@ -78,14 +86,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     );
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.info("인증 정보 설정 완료: userId={}, authorities={}", userId, authorities);
+                    log.debug("인증 정보 설정 완료: userId={}, authorities={}", userId, authorities);
                 } else {
-                    log.warn("토큰이 유효하지 않음: path={}", requestPath);
+                    log.debug("토큰이 유효하지 않음: path={}", requestPath);
                     // SecurityContext를 명시적으로 비움
                     SecurityContextHolder.clearContext();
                 }
             } else {
-                log.warn("토큰이 없음: path={}", requestPath);
+                log.debug("토큰이 없음: path={}", requestPath);
                 // SecurityContext를 명시적으로 비움
                 SecurityContextHolder.clearContext();
             }
@@ -98,37 +106,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    /**
-     * 필터를 건너뛸 경로 확인 (HTTP 메소드 기반으로 수정)
-     */
-    private boolean shouldSkipFilter(HttpServletRequest request, String path) {
-        // 1. 인증이 필요 없는 API만 건너뛰기
-        if (path.equals("/api/auth/signup") ||
-            path.equals("/api/auth/login") ||
-            path.equals("/api/auth/refresh") ||
-            path.equals("/api/auth/check") ||
-            path.equals("/api/auth/check-email") ||
-            path.equals("/api/auth/check-nickname") ||
-            path.startsWith("/error") ||
-            path.equals("/") ||
-            path.startsWith("/css/") ||
-            path.startsWith("/js/") ||
-            path.startsWith("/images/")) {
-            return true;
-        }
-
-        // 2. 게시판 조회(GET)만 필터를 건너뛰도록 허용
-        if (path.startsWith("/api/boards") && request.getMethod().equals("GET")) {
-            if (path.matches("^/api/boards$|^/api/boards/\\d+$|^/api/boards/\\d+/comments$")) {
-                return true;
-            }
-        }
-        
-        // 3. 인증이 필요한 API는 필터 실행 (JWT 토큰 검증)
-        // /api/auth/update, /api/auth/change-password, /api/auth/me, /api/auth/logout 등
-        return false;
-    }
-
     /**
      * Authorization 헤더에서 JWT 토큰 추출
      */
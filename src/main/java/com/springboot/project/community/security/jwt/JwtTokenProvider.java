@@ -3,6 +3,8 @@ package com.springboot.project.community.security.jwt;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.Claims;
@@ -13,9 +15,9 @@ import org.springframework.stereotype.Component;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.crypto.SecretKey;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증
@@ -33,6 +35,9 @@ public class JwtTokenProvider {
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // 서명 키가 고정이므로 한 번만 생성 (불변, 스레드 안전)
+    private final JwtParser jwtParser;
+
     // 생성자에서 @Value를 필드가 아닌 생성자에 직접 사용
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
@@ -45,6 +50,9 @@ public class JwtTokenProvider {
         // secretKey 초기화 추가
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     /**
@@ -92,6 +100,31 @@ public class JwtTokenProvider {
         return Long.parseLong(claims.getSubject());
     }
 
+    /**
+     * 토큰 검증 + 파싱 (서명 검증 1회)
+     * - 요청마다 validateToken / getUserIdFromToken / getRoles 를 따로 부르면 서명을 3번 검증하므로
+     *   인증 필터에서는 이 메서드로 한 번에 꺼내 쓴다.
+     * - 유효하지 않으면 Optional.empty()
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            return Optional.of(VerifiedToken.from(parseClaims(token)));
+        } catch (ExpiredJwtException e){
+            log.info("만료된 토큰입니다.");
+        } catch (UnsupportedJwtException e){
+            log.info("지원하지 않는 토큰입니다.");
+        } catch (MalformedJwtException e){
+            log.info("잘못된 형식의 토큰입니다.");
+        } catch (io.jsonwebtoken.security.SecurityException e){
+            log.info("시그니처 검증에 실패했습니다.");
+        } catch (JwtException e){
+            log.info("유효하지 않은 토큰입니다.");
+        } catch (IllegalArgumentException e){
+            log.info("잘못된 토큰입니다.");
+        }
+        return Optional.empty();
+    }
+
     /**
      * 토큰 검증
      */
@@ -117,29 +150,14 @@ public class JwtTokenProvider {
      * 토큰 파싱
      */
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
      * 토큰에서 권한 추출
      */
     public List<String> getRoles(String token) {
-        Claims claims = parseClaims(token);
-        Object roles = claims.get("roles");
-
-        if (roles == null) {
-            return Collections.emptyList();
-        }
-
-        if (roles instanceof List) {
-            return (List<String>) roles;
-        }
-
-        return Collections.emptyList();
+        return VerifiedToken.rolesOf(parseClaims(token));
     }
 
     /**
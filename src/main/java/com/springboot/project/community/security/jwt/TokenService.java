@@ -30,6 +30,7 @@ import java.util.Map;
 public class TokenService {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final CookieUtil cookieUtil;
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
@@ -72,17 +73,16 @@ public class TokenService {
      */
     @Transactional
     public Map<String, String> refreshAccessToken(String refreshToken) {
-        // 1. Refresh Token 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
-        }
+        // 1. Refresh Token 검증 (서명 검증 1회)
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 Refresh Token입니다."));
 
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        if (!verified.isRefreshToken()) {
             throw new IllegalArgumentException("Refresh Token이 아닙니다.");
         }
 
         // 2. 사용자 정보 조회
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        Long userId = verified.userId();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -103,6 +103,7 @@ public class TokenService {
      * 로그아웃
      * - Refresh Token 쿠키 삭제
      * - DB의 Refresh Token 삭제
+     * - 검증된 토큰 캐시에서 해당 사용자 항목 제거
      */
     @Transactional
     public void logout(Long userId, HttpServletResponse response) {
@@ -112,6 +113,7 @@ public class TokenService {
         // 2. DB의 Refresh Token 삭제
         if (userId != null) {
             deleteRefreshToken(userId);
+            verifiedTokenCache.revokeUser(userId);
         }
     }
 
@@ -0,0 +1,52 @@
+package com.springboot.project.community.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT 의 내용 (불변)
+ * - JwtTokenProvider.verify 로만 생성
+ * - 요청 처리 중에는 이 값만 사용하고 토큰을 다시 파싱하지 않음
+ *
+ * @param userId    사용자 ID (subject)
+ * @param roles     권한 목록 (roles 클레임, 없으면 빈 목록)
+ * @param type      토큰 종류 (access / refresh, 없으면 null)
+ * @param expiresAt 만료 시각 (exp 클레임이 없으면 null)
+ */
+public record VerifiedToken(Long userId, List<String> roles, String type, Instant expiresAt) {
+
+    public VerifiedToken {
+        roles = List.copyOf(roles);
+    }
+
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                rolesOf(claims),
+                claims.get("type", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    /**
+     * roles 클레임 추출 (문자열이 아닌 값은 무시)
+     */
+    static List<String> rolesOf(Claims claims) {
+        if (!(claims.get("roles") instanceof List<?> roles)) {
+            return List.of();
+        }
+        return roles.stream()
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .toList();
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -0,0 +1,153 @@
+package com.springboot.project.community.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * 검증된 JWT 캐시 (토큰 해시 → VerifiedToken)
+ *
+ * - 클라이언트는 같은 Access Token 을 만료(15분)까지 재사용하므로 같은 문자열의 서명 검증을 반복하지 않음
+ * - 키는 토큰 SHA-256 의 앞 128비트 (토큰 원문은 메모리에 두지 않음)
+ * - 토큰 만료 시각이 지나면 캐시에서 꺼내지 않고 제거 (만료 토큰은 다시 검증되어 거부됨)
+ * - 최대 max-size 개, LRU 순으로 제거 / purge-interval-ms 주기로 만료 항목 정리
+ * - 검증 실패한 토큰은 캐시하지 않음
+ * - 로그아웃 시 revokeUser 로 해당 사용자의 항목 제거
+ *
+ * 메트릭
+ * - jwt.cache.gets{result=hit|miss} : 캐시 조회 수
+ * - jwt.cache.size                  : 캐시된 토큰 수
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int maxSize;
+    private final LongSupplier currentTimeMillis;
+
+    // accessOrder = true → 가장 오래 사용하지 않은 항목이 맨 앞 (this 로 동기화)
+    private final LinkedHashMap<TokenKey, VerifiedToken> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 제거(revoke)가 일어날 때마다 증가 (검증 시작 시점 값과 다르면 저장하지 않음)
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this(jwtTokenProvider, meterRegistry, maxSize, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry,
+                       int maxSize, LongSupplier currentTimeMillis) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.maxSize = maxSize;
+        this.currentTimeMillis = currentTimeMillis;
+
+        this.hits = Counter.builder("jwt.cache.gets")
+                .tag("result", "hit")
+                .description("검증된 JWT 캐시 조회 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.cache.gets")
+                .tag("result", "miss")
+                .description("검증된 JWT 캐시 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", this, VerifiedTokenCache::size)
+                .description("캐시된 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 검증 (캐시에 있으면 서명 검증 생략)
+     * - 유효하지 않으면 Optional.empty()
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        TokenKey key = TokenKey.of(token);
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+            VerifiedToken cached = entries.get(key);
+            if (cached != null) {
+                if (!isExpired(cached)) {
+                    hits.increment();
+                    return Optional.of(cached);
+                }
+                entries.remove(key);
+            }
+        }
+
+        // 서명 검증은 락 밖에서
+        misses.increment();
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+        verified.filter(t -> t.expiresAt() != null && !isExpired(t))
+                .ifPresent(t -> put(key, t, startGeneration));
+        return verified;
+    }
+
+    /**
+     * 사용자의 캐시된 토큰 모두 제거 (로그아웃)
+     */
+    public synchronized void revokeUser(Long userId) {
+        generation++;
+        entries.values().removeIf(token -> token.userId().equals(userId));
+    }
+
+    /**
+     * 만료된 항목 정리 (조회 시에도 만료 여부를 확인하므로 메모리 회수 용도)
+     */
+    @Scheduled(fixedDelayString = "${jwt.cache.purge-interval-ms:60000}")
+    public synchronized void purgeExpired() {
+        entries.values().removeIf(this::isExpired);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void put(TokenKey key, VerifiedToken token, long startGeneration) {
+        if (generation != startGeneration) {
+            return;
+        }
+        entries.put(key, token);
+        if (entries.size() > maxSize) {
+            Map.Entry<TokenKey, VerifiedToken> eldest = entries.entrySet().iterator().next();
+            entries.remove(eldest.getKey());
+        }
+    }
+
+    private boolean isExpired(VerifiedToken token) {
+        return token.expiresAt().toEpochMilli() <= currentTimeMillis.getAsLong();
+    }
+
+    /**
+     * 토큰 SHA-256 앞 128비트
+     */
+    private record TokenKey(long high, long low) {
+        static TokenKey of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenKey(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+}
@@ -7,7 +7,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,15 +21,27 @@ import java.util.Optional;
  * - 로그인 검증 (이메일/비밀번호)
  * - 세션 관리 (생성/무효화/조회)
  * - Remember Me 쿠키 관리
+ *
+ * stateless 모드(auth.stateless=true)에서는 세션 / Remember Me 쿠키를 만들지 않음 (JWT 만 사용)
  */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final CookieUtil cookieUtil;
+    private final boolean stateless;
+
+    public AuthService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       CookieUtil cookieUtil,
+                       @Value("${auth.stateless:false}") boolean stateless) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.cookieUtil = cookieUtil;
+        this.stateless = stateless;
+    }
 
     // 세션 관련 상수
     private static final String USER_SESSION_KEY = "loginUser";
@@ -44,14 +56,17 @@ public class AuthService {
     /**
      * 로그인
      * 1. 이메일/비밀번호 검증
-     * 2. 세션 생성
-     * 3. Remember Me 쿠키 설정 (선택)
+     * 2. 세션 생성 (stateless 모드에서는 생략)
+     * 3. Remember Me 쿠키 설정 (선택, stateless 모드에서는 생략)
      */
     @Transactional
     public User login(String email, String password, boolean rememberMe,
                       HttpServletRequest request, HttpServletResponse response) {
         // 1. 자격 증명 검증
         User user = validateCredentials(email, password);
+        if (stateless) {
+            return user;
+        }
 
         // 2. 세션 생성
         createSession(request, user);
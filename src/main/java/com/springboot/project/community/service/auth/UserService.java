@@ -5,6 +5,7 @@ import com.springboot.project.community.dto.auth.UserSignupReq;
 import com.springboot.project.community.dto.auth.UserUpdateReq;
 import com.springboot.project.community.entity.User;
 import com.springboot.project.community.repository.UserRepository;
+import com.springboot.project.community.service.image.ImageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ImageService imageService;
 
     /**
      * 회원가입
@@ -42,7 +44,7 @@ public class UserService {
                 .email(req.getEmail())
                 .password(passwordEncoder.encode(req.getPassword()))
                 .nickname(req.getNickname())
-                .image(req.getImage())
+                .image(imageService.resolveProfileImage(req.getImage())) // Base64 는 저장소에 저장 후 URL 로 변환
                 .useYn(false) // 활성화 상태로 생성
                 .build();
 
@@ -82,8 +84,8 @@ public class UserService {
                     // 이미지 삭제 요청: 기존 이미지를 null로 설정
                     user.setImage(null);
                 } else {
-                    // 새로운 이미지 업데이트
-                    user.setImage(req.getImage());
+                    // 새로운 이미지 업데이트 (Base64 는 저장소에 저장 후 URL 로 변환)
+                    user.setImage(imageService.resolveProfileImage(req.getImage()));
                 }
             }
 
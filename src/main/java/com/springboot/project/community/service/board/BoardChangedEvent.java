@@ -0,0 +1,8 @@
+package com.springboot.project.community.service.board;
+
+/**
+ * 게시글 변경 이벤트 (게시글 수정/삭제, 댓글 작성/수정/삭제)
+ * - 커밋 후 PostDetailCache 에서 해당 게시글 상세 캐시를 제거하기 위해 사용
+ */
+public record BoardChangedEvent(Long postId) {
+}
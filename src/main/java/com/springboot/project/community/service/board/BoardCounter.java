@@ -0,0 +1,85 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수 카운터
+ *
+ * - InnoDB 는 COUNT(*) 를 인덱스 전체를 읽어 계산하므로 목록 요청마다 실행하지 않고 메모리 값을 사용한다.
+ * - 첫 사용 시 COUNT(*) 로 초기화
+ * - 게시글 작성/삭제 커밋 후 증감
+ * - 다른 인스턴스에서의 작성/삭제, 조회 중 커밋된 변경 등으로 어긋난 값은
+ *   reconcile-interval-ms 주기로 COUNT(*) 를 다시 실행하여 맞춘다 (근사값)
+ *
+ * 메트릭
+ * - board.count : 현재 전체 게시글 수 (초기화 전이면 -1)
+ */
+@Slf4j
+@Component
+public class BoardCounter {
+
+    private static final long UNKNOWN = -1L;
+
+    private final BoardRepository boardRepository;
+    private final AtomicLong count = new AtomicLong(UNKNOWN);
+
+    public BoardCounter(BoardRepository boardRepository, MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        Gauge.builder("board.count", count, AtomicLong::get)
+                .description("전체 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전체 게시글 수 (초기화 전이면 COUNT(*) 실행)
+     */
+    public long get() {
+        long value = count.get();
+        if (value == UNKNOWN) {
+            value = boardRepository.count();
+            // 그 사이 다른 스레드가 초기화했으면 그 값을 사용
+            if (!count.compareAndSet(UNKNOWN, value)) {
+                value = count.get();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 주기적으로 실제 게시글 수와 맞춤 (초기화 전이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${board.count.reconcile-interval-ms:600000}",
+            initialDelayString = "${board.count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (count.get() == UNKNOWN) {
+            return;
+        }
+        try {
+            long actual = boardRepository.count();
+            long previous = count.getAndSet(actual);
+            if (previous != actual) {
+                log.info("전체 게시글 수 보정: {} → {}", previous, actual);
+            }
+        } catch (Exception e) {
+            log.error("전체 게시글 수 보정 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardCreated(BoardCreatedEvent event) {
+        count.updateAndGet(value -> value == UNKNOWN ? UNKNOWN : value + 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        count.updateAndGet(value -> value == UNKNOWN ? UNKNOWN : Math.max(0, value - 1));
+    }
+}
@@ -0,0 +1,10 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.dto.board.BoardListRes;
+
+/**
+ * 게시글 작성 이벤트
+ * - 커밋 후 BoardListHeadCache 맨 앞에 새 게시글을 추가하기 위해 사용
+ */
+public record BoardCreatedEvent(BoardListRes board) {
+}
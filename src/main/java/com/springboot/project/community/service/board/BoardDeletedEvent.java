@@ -0,0 +1,8 @@
+package com.springboot.project.community.service.board;
+
+/**
+ * 게시글 삭제 이벤트
+ * - 커밋 후 BoardCounter 의 전체 게시글 수를 줄이기 위해 사용
+ */
+public record BoardDeletedEvent(Long postId) {
+}
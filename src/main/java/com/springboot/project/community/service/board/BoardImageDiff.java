@@ -0,0 +1,66 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.entity.BoardImage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 이미지 변경분 계산
+ *
+ * - 기존 BOARD_IMAGE 행과 요청 URL 목록(순서 = sort_order)을 비교하여
+ *   추가할 URL / 삭제할 행 / sort_order 만 바뀐 행을 구한다.
+ * - 같은 URL 이 여러 번 나와도 기존 행을 한 번씩만 재사용
+ * - 변경이 없으면 세 목록 모두 비어 있음 (이미지 쓰기 없음)
+ */
+public record BoardImageDiff(List<Added> added, List<Integer> removedIds, List<Reordered> reordered) {
+
+    /** 새로 추가할 이미지 */
+    public record Added(String imageUrl, int sortOrder) {
+    }
+
+    /** sort_order 만 바뀐 기존 이미지 */
+    public record Reordered(Integer imageId, int sortOrder) {
+    }
+
+    public static BoardImageDiff of(List<BoardImage> existing, List<String> imageUrls) {
+        // URL → 기존 행 (sort_order 순)
+        Map<String, Deque<BoardImage>> existingByUrl = new HashMap<>();
+        for (BoardImage image : existing) {
+            existingByUrl.computeIfAbsent(image.getImageUrl(), url -> new ArrayDeque<>()).add(image);
+        }
+
+        List<Added> added = new ArrayList<>();
+        List<Reordered> reordered = new ArrayList<>();
+        if (imageUrls != null) {
+            int order = 0;
+            for (String url : imageUrls) {
+                Deque<BoardImage> candidates = existingByUrl.get(url);
+                BoardImage matched = candidates != null ? candidates.poll() : null;
+                if (matched == null) {
+                    added.add(new Added(url, order));
+                } else if (matched.getSortOrder() == null || matched.getSortOrder() != order) {
+                    reordered.add(new Reordered(matched.getImageId(), order));
+                }
+                order++;
+            }
+        }
+
+        // 요청 목록에서 쓰이지 않은 기존 행은 삭제
+        List<Integer> removedIds = new ArrayList<>();
+        for (Deque<BoardImage> remaining : existingByUrl.values()) {
+            for (BoardImage image : remaining) {
+                removedIds.add(image.getImageId());
+            }
+        }
+        return new BoardImageDiff(added, removedIds, reordered);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removedIds.isEmpty() && reordered.isEmpty();
+    }
+}
@@ -0,0 +1,185 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.repository.BoardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최신 게시글 목록 캐시 (hot head)
+ *
+ * - 목록 요청 대부분이 첫 페이지이므로 최신 게시글 size 개를 메모리에 유지하고
+ *   이 범위 안의 페이지는 DB 조회 없이 응답한다. (전체 게시글 수는 BoardCounter)
+ * - 게시글 작성: 커밋 후 BoardCreatedEvent 로 맨 앞에 추가 (write-through)
+ * - 게시글 수정/삭제, 댓글 변경: BoardChangedEvent 대상이 캐시에 있으면 다음 요청 시 다시 조회
+ * - 좋아요/댓글/조회수는 refresh-interval-ms 주기로 다시 조회 (최대 이 시간만큼 늦게 반영)
+ * - 주기 갱신이 멈춰도 refresh-interval-ms 의 2배가 지나면 요청 시 다시 조회
+ *
+ * 메트릭
+ * - board.list.head.gets{result=hit|miss} : 캐시 범위 안/밖 요청 수
+ */
+@Slf4j
+@Component
+public class BoardListHeadCache {
+
+    private final BoardRepository boardRepository;
+    private final BoardCounter boardCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final long refreshIntervalMs;
+
+    // 다시 조회와 이벤트 반영을 직렬화 (조회 중 커밋된 이벤트는 조회가 끝난 뒤 반영)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public BoardListHeadCache(BoardRepository boardRepository,
+                              BoardCounter boardCounter,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${board.list-head.size:50}") int capacity,
+                              @Value("${board.list-head.refresh-interval-ms:5000}") long refreshIntervalMs) {
+        this.boardRepository = boardRepository;
+        this.boardCounter = boardCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.capacity = capacity;
+        this.refreshIntervalMs = refreshIntervalMs;
+
+        this.hits = Counter.builder("board.list.head.gets")
+                .tag("result", "hit")
+                .description("최신 게시글 목록 캐시 조회 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("board.list.head.gets")
+                .tag("result", "miss")
+                .description("최신 게시글 목록 캐시 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최신 게시글 중 [offset, offset + limit) 범위
+     * - 캐시 범위를 벗어나면 null (호출 측에서 DB 조회)
+     */
+    public Head get(long offset, int limit) {
+        if (offset + limit > capacity) {
+            misses.increment();
+            return null;
+        }
+        Snapshot current = snapshot;
+        if (current == null || current.stale()
+                || System.currentTimeMillis() - current.loadedAt() > refreshIntervalMs * 2) {
+            current = reload();
+        }
+
+        hits.increment();
+        List<BoardListRes> entries = current.entries();
+        int from = (int) Math.min(offset, entries.size());
+        int to = (int) Math.min(offset + limit, entries.size());
+        return new Head(List.copyOf(entries.subList(from, to)), boardCounter.get());
+    }
+
+    /**
+     * 주기적으로 최신 게시글 / 통계 갱신
+     * - 아직 한 번도 사용되지 않았으면 조회하지 않음
+     */
+    @Scheduled(fixedDelayString = "${board.list-head.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("최신 게시글 목록 캐시 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 게시글 작성 커밋 후 맨 앞에 추가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardCreated(BoardCreatedEvent event) {
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            // 조회 결과에 이미 포함된 게시글이면 건너뜀 (커밋 직후 다시 조회한 경우)
+            if (current == null || current.contains(event.board().getId())) {
+                return;
+            }
+            List<BoardListRes> entries = new ArrayList<>(capacity);
+            entries.add(event.board());
+            entries.addAll(current.entries().subList(0, Math.min(current.entries().size(), capacity - 1)));
+            snapshot = new Snapshot(List.copyOf(entries), current.loadedAt(), current.stale());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 게시글 수정/삭제, 댓글 변경 커밋 후 캐시에 있는 게시글이면 다음 요청 시 다시 조회
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && current.contains(event.postId())) {
+                snapshot = current.markStale();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최신 게시글 capacity 개 조회 (동시 요청은 한 번만 조회)
+     */
+    private Snapshot reload() {
+        lock.lock();
+        try {
+            // 락을 기다리는 동안 다른 스레드가 이미 갱신했으면 그대로 사용
+            Snapshot current = snapshot;
+            if (current != null && !current.stale()
+                    && System.currentTimeMillis() - current.loadedAt() < refreshIntervalMs / 2) {
+                return current;
+            }
+            snapshot = transactionTemplate.execute(status -> new Snapshot(
+                    List.copyOf(boardRepository.findBoardListByCursor(null, null, capacity)),
+                    System.currentTimeMillis(),
+                    false));
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 요청 범위의 게시글 목록과 전체 게시글 수
+     */
+    public record Head(List<BoardListRes> boards, long total) {
+    }
+
+    private record Snapshot(List<BoardListRes> entries, long loadedAt, boolean stale) {
+        boolean contains(Long postId) {
+            return entries.stream().anyMatch(board -> board.getId().equals(postId));
+        }
+
+        Snapshot markStale() {
+            return new Snapshot(entries, loadedAt, true);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 미리보기(contents_preview) 백필 작업
+ *
+ * - contents_preview 컬럼 추가 이전에 작성된 게시글의 미리보기를 채운다.
+ * - 애플리케이션 기동 완료 후 별도 스레드에서 post_id 순으로 배치 처리 (배치마다 개별 트랜잭션)
+ * - 채울 대상이 없으면 조회 1회로 종료
+ *
+ * 컬럼이 없는 환경(ddl-auto: none)에서는 먼저 아래 DDL을 적용해야 한다.
+ *   ALTER TABLE BOARD ADD COLUMN contents_preview VARCHAR(200) NULL;
+ */
+@Slf4j
+@Component
+public class BoardPreviewBackfillJob {
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public BoardPreviewBackfillJob(
+            BoardRepository boardRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${board.preview.backfill.enabled:true}") boolean enabled,
+            @Value("${board.preview.backfill.batch-size:500}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::backfill, "board-preview-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 미리보기가 없는 게시글을 배치 단위로 채움
+     * @return 갱신한 게시글 수
+     */
+    public int backfill() {
+        int total = 0;
+        long lastPostId = 0L;
+        try {
+            while (true) {
+                final long from = lastPostId;
+                BatchResult result = transactionTemplate.execute(status -> backfillBatch(from));
+                if (result == null || result.updated() == 0) {
+                    break;
+                }
+                total += result.updated();
+                lastPostId = result.lastPostId();
+            }
+            if (total > 0) {
+                log.info("게시글 미리보기 백필 완료: updated={}", total);
+            }
+        } catch (Exception e) {
+            log.error("게시글 미리보기 백필 중 오류 발생: lastPostId={}", lastPostId, e);
+        }
+        return total;
+    }
+
+    /**
+     * 한 배치 처리 (post_id 오름차순으로 batchSize 개)
+     */
+    private BatchResult backfillBatch(long lastPostId) {
+        List<Object[]> targets = boardRepository.findPreviewBackfillTargets(
+                lastPostId, PageRequest.of(0, batchSize));
+
+        long processedLastId = lastPostId;
+        for (Object[] row : targets) {
+            Long postId = (Long) row[0];
+            String contents = (String) row[1];
+            boardRepository.updateContentsPreview(postId, Board.createPreview(contents));
+            processedLastId = postId;
+        }
+        return new BatchResult(processedLastId, targets.size());
+    }
+
+    private record BatchResult(long lastPostId, int updated) {
+    }
+}
@@ -1,11 +1,15 @@
 package com.springboot.project.community.service.board;
 
 import com.springboot.project.community.dto.board.*;
-import com.springboot.project.community.dto.comment.CommentRes;
+import com.springboot.project.community.dto.comment.CommentCursorRes;
 import com.springboot.project.community.entity.*;
 import com.springboot.project.community.repository.*;
+import com.springboot.project.community.service.comment.CommentService;
+import com.springboot.project.community.service.like.LikedPostCache;
+import com.springboot.project.community.util.CursorUtil;
 import jakarta.persistence.PostUpdate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /** 게시글 서비스 */
@@ -26,6 +31,21 @@ public class BoardService {
     private final UserRepository userRepository;
     private final BoardStatsRepository boardStatsRepository;
     private final BoardImageRepository boardImageRepository;
+    private final ImageFileRepository imageFileRepository;
+    private final BoardImageBatchWriter boardImageBatchWriter;
+    private final BoardStatsBuffer statsBuffer;
+    private final PostDetailCache postDetailCache;
+    private final BoardListHeadCache boardListHeadCache;
+    private final BoardCounter boardCounter;
+    private final LikedPostCache likedPostCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentService commentService;
+
+    // 커서 기반 목록 조회 시 한 번에 가져올 수 있는 최대 개수
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
+    // 상세 조회 시 함께 내려주는 댓글 수
+    private static final int DETAIL_COMMENT_PAGE_SIZE = 20;
 
     /**
      * 게시글 생성
@@ -40,6 +60,7 @@ public class BoardService {
                 .author(author)
                 .title(req.getTitle())
                 .contents(req.getContents())
+                .contentsPreview(Board.createPreview(req.getContents()))
                 .build();
 
         Board savedBoard = boardRepository.save(board);
@@ -48,7 +69,6 @@ public class BoardService {
         boardStatsRepository.createIfNotExists(savedBoard.getPostId());
 
         // 이미지 저장 (board_image 테이블에 별도 관리)
-        List<BoardImage> images = new ArrayList<>();
         List<String> imageUrlList = new ArrayList<>();
         
         // 단수 image 필드 처리
@@ -61,33 +81,44 @@ public class BoardService {
             imageUrlList.addAll(req.getImageUrls());
         }
         
-        // board_image 테이블에 저장
+        // board_image 테이블에 저장 (IDENTITY 전략은 JPA 배치 INSERT 가 불가능하므로 JDBC 배치 사용)
+        Map<String, String> thumbnails = Map.of();
         if (!imageUrlList.isEmpty()) {
+            thumbnails = findThumbnails(imageUrlList);
+            List<BoardImageBatchWriter.NewImage> images = new ArrayList<>();
             int order = 0;
             for (String url : imageUrlList) {
-                BoardImage boardImage = BoardImage.builder()
-                        .board(savedBoard)
-                        .user(author)
-                        .imageUrl(url)
-                        .sortOrder(order++)
-                        .build();
-                images.add(boardImage);
+                images.add(new BoardImageBatchWriter.NewImage(url, thumbnails.get(url), order++));
             }
-            boardImageRepository.saveAll(images);
-            savedBoard.setImages(images); // 연관관계 설정
+            boardImageBatchWriter.insertAll(savedBoard.getPostId(), author.getUserId(), images);
         }
 
-        // BoardStats 조회
-        BoardStats stats = boardStatsRepository.findById(savedBoard.getPostId())
-                .orElseGet(() -> BoardStats.builder()
-                        .postId(savedBoard.getPostId())
-                        .likeCount(0L)
-                        .commentCount(0L)
-                        .viewCount(0L)
-                        .build());
-
-        // PostRes.of()에서 comments.size()를 사용하여 실제 댓글 수 표시
-        return PostRes.of(savedBoard, stats, new ArrayList<>(), false); // 새 게시글은 좋아요 없음
+        // 방금 생성한 통계는 모두 0 이므로 다시 조회하지 않음
+        BoardStats stats = BoardStats.builder()
+                .postId(savedBoard.getPostId())
+                .likeCount(0L)
+                .commentCount(0L)
+                .viewCount(0L)
+                .build();
+
+        // 커밋 후 최신 게시글 목록 캐시 맨 앞에 추가
+        eventPublisher.publishEvent(new BoardCreatedEvent(BoardListRes.builder()
+                .id(savedBoard.getPostId())
+                .title(savedBoard.getTitle())
+                .author(author.getNickname())
+                .authorImage(author.getImage()) // 썸네일은 다음 목록 캐시 갱신 시 반영
+                .thumbnail(imageUrlList.isEmpty() ? null : thumbnails.getOrDefault(imageUrlList.get(0), imageUrlList.get(0)))
+                .contents(savedBoard.getContentsPreview())
+                .likes(0L)
+                .comments(0L)
+                .views(0L)
+                .createdAt(savedBoard.getCreatedAt())
+                .build()));
+
+        PostRes res = PostRes.of(savedBoard, stats, new ArrayList<>(), false); // 새 게시글은 좋아요 없음
+        // JDBC 로 저장한 이미지는 Board.images 에 없으므로 요청 순서대로 설정
+        res.setImageUrls(imageUrlList.isEmpty() ? null : imageUrlList);
+        return res;
     }
 
     /**
@@ -112,32 +143,18 @@ public class BoardService {
 
         // 수정 내용 반영
         board.setTitle(req.getTitle());
-        board.setContents(req.getContents());
+        board.changeContents(req.getContents()); // 미리보기 함께 갱신
 
-        // 이미지 처리 (기존 이미지 삭제 후 새로 추가)
-        // 기존 이미지 삭제
-        boardImageRepository.deleteByBoard_PostId(postId);
-        
-        // 새 이미지 추가 (BOARD_IMAGE만 사용 - 게시글 이미지)
-        if (req.getImageUrls() != null && !req.getImageUrls().isEmpty()) {
-            List<BoardImage> newImages = new ArrayList<>();
-            int order = 0;
-            for (String url : req.getImageUrls()) {
-                // BOARD_IMAGE 테이블에 저장
-                BoardImage image = BoardImage.builder()
-                        .board(board)
-                        .user(user) // 게시글 작성자 ID 저장
-                        .imageUrl(url)
-                        .sortOrder(order++)
-                        .build();
-                newImages.add(image);
-            }
-            boardImageRepository.saveAll(newImages);
-            board.setImages(newImages); // 연관관계 설정
-        } else {
-            board.setImages(new ArrayList<>()); // 이미지가 없으면 빈 리스트로 설정
+        // 이미지 처리 (기존 이미지와 비교하여 바뀐 부분만 반영, 변경이 없으면 쓰기 없음)
+        BoardImageDiff diff = BoardImageDiff.of(
+                boardImageRepository.findByBoard_PostIdOrderBySortOrderAsc(postId), req.getImageUrls());
+        if (!diff.isEmpty()) {
+            applyImageDiff(postId, user.getUserId(), diff);
         }
 
+        // 커밋 후 상세 캐시 제거
+        eventPublisher.publishEvent(new BoardChangedEvent(postId));
+
         // JPA가 변경 감지하여 업데이트
         return PostUpdateReq.builder()
                 .postId(board.getPostId())
@@ -181,7 +198,11 @@ public class BoardService {
         
         // 5. 게시글 삭제 (board 테이블)
         boardRepository.delete(board);
-        
+
+        // 커밋 후 상세 캐시 제거 / 전체 게시글 수 감소
+        eventPublisher.publishEvent(new BoardChangedEvent(postId));
+        eventPublisher.publishEvent(new BoardDeletedEvent(postId));
+
         // 삭제 응답 반환
         return PostDeleteRes.builder()
                 .postId(postId)
@@ -192,73 +213,160 @@ public class BoardService {
 
     /**
      * 전체 게시글 조회
+     * - 로그인 사용자면 좋아요 여부 포함 (페이지당 쿼리 1회)
      */
     @Transactional(readOnly = true)
-    public Page<BoardListRes> getBoardList(int page, int size) {
+    public Page<BoardListRes> getBoardList(int page, int size, Long userId) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Board> boards = boardRepository.findAll(pageable);
 
-        List<Long> postIds = boards.stream()
-                .map(Board::getPostId)
-                .collect(Collectors.toList());
+        // 최신 게시글 범위 안이면 캐시에서 (DB 조회 없음)
+        BoardListHeadCache.Head head = boardListHeadCache.get(pageable.getOffset(), size);
+        if (head != null) {
+            return new PageImpl<>(withLiked(head.boards(), userId), pageable, head.total());
+        }
 
-        List<BoardStats> statsList = boardStatsRepository.findByPostIdIn(postIds);
-        Map<Long, BoardStats> statsMap = statsList.stream()
-                .collect(Collectors.toMap(BoardStats::getPostId, stats -> stats));
+        // BOARD + USERS + BOARD_STATS 단일 조인 쿼리 (작성자 N+1 없음)
+        // 전체 개수는 COUNT(*) 대신 유지 중인 게시글 수 사용
+        Page<BoardListRes> boards = boardRepository.findBoardList(pageable, boardCounter::get);
+        return new PageImpl<>(withLiked(boards.getContent(), userId), pageable, boards.getTotalElements());
+    }
 
-        List<BoardListRes> responseList = boards.stream()
-                .map(board -> BoardListRes.from(board, statsMap.get(board.getPostId())))
-                .collect(Collectors.toList());
+    /**
+     * 게시글 목록 조회 (Slice, 전체 개수 없이 다음 페이지 존재 여부만)
+     */
+    @Transactional(readOnly = true)
+    public Slice<BoardListRes> getBoardSlice(int page, int size, Long userId) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        return new PageImpl<>(responseList, pageable, boards.getTotalElements());
+        // 최신 게시글 범위 안이면 캐시에서 (다음 페이지 확인을 위해 1개 더)
+        BoardListHeadCache.Head head = boardListHeadCache.get(pageable.getOffset(), size + 1);
+        if (head != null) {
+            List<BoardListRes> boards = head.boards();
+            boolean hasNext = boards.size() > size;
+            return new SliceImpl<>(withLiked(hasNext ? boards.subList(0, size) : boards, userId), pageable, hasNext);
+        }
+        Slice<BoardListRes> boards = boardRepository.findBoardSlice(pageable);
+        return new SliceImpl<>(withLiked(boards.getContent(), userId), pageable, boards.hasNext());
     }
 
     /**
-     * 상세 게시글 조회
+     * 커서 기반 게시글 목록 조회 (무한 스크롤)
+     * - OFFSET/COUNT 없이 (created_at, post_id) 기준으로 이어서 조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
+    public BoardCursorRes getBoardListByCursor(String cursor, int size, Long userId) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회 (첫 페이지는 최신 게시글 캐시에서)
+        BoardListHeadCache.Head head = decoded == null ? boardListHeadCache.get(0, pageSize + 1) : null;
+        List<BoardListRes> boards = head != null
+                ? head.boards()
+                : boardRepository.findBoardListByCursor(
+                        decoded != null ? decoded.createdAt() : null,
+                        decoded != null ? decoded.id() : null,
+                        pageSize + 1);
+
+        boolean hasNext = boards.size() > pageSize;
+        if (hasNext) {
+            boards = boards.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            BoardListRes last = boards.get(boards.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return BoardCursorRes.builder()
+                .boards(withLiked(boards, userId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 상세 게시글 조회 (읽기 전용)
+     * 1. 게시글 + 작성자 + 이미지 + 댓글 첫 페이지 (PostDetailCache, 없으면 DB 조회 후 저장)
+     * 2. 통계 (요청마다 조회)
+     * 3. 좋아요 여부 (로그인 사용자만, LikedPostCache)
+     * - 조회수는 BoardViewedEvent 로 발행하고 BoardStatsBuffer 가 비동기로 반영
+     */
+    @Transactional(readOnly = true)
     public PostRes findById(Long postId, Long userId) {
-        // 게시글
-        Board board = boardRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다. postId=" + postId));
+        // 사용자와 무관한 부분은 캐시에서
+        CachedPostDetail detail = postDetailCache.get(postId, this::loadDetail);
 
-        // boardStats가 없으면 생성 (Native Query로 동시성 문제 해결)
-        boardStatsRepository.createIfNotExists(postId);
+        // 조회수 기록 (메모리 버퍼, DB 반영은 비동기)
+        eventPublisher.publishEvent(new BoardViewedEvent(postId));
 
-        // 조회수 증가 (Native Query로 동시성 문제 해결)
-        boardStatsRepository.incrementViewCount(postId);
+        // 통계 행이 아직 없으면 0으로 표시
+        BoardStats stats = boardStatsRepository.findById(postId).orElse(null);
 
-        // 이미지 (정렬 포함)
-        List<String> imageUrls = boardImageRepository
-                .findByBoard_PostIdOrderBySortOrderAsc(postId)
-                .stream()
-                .map(BoardImage::getImageUrl)
-                .toList();
+        // 현재 사용자가 좋아요를 눌렀는지 확인 (사용자별 좋아요 캐시)
+        boolean isLiked = userId != null && likedPostCache.isLiked(userId, postId);
+
+        PostRes res = detail.toResponse(stats, isLiked);
+        // 아직 DB 에 반영되지 않은 조회수 / 좋아요 수 / 댓글 수 포함
+        BoardStatsRepositoryCustom.StatsDelta pending = statsBuffer.getPending(postId);
+        res.setViewCount(res.getViewCount() + pending.views());
+        res.setLikeCount(Math.max(res.getLikeCount() + pending.likes(), 0));
+        res.setCommentCount(Math.max(res.getCommentCount() + pending.comments(), 0));
+        return res;
+    }
 
-        // 댓글
-        List<CommentRes> commentRes = commentRepository
-                .findByBoard_PostIdOrderByCreatedAtAsc(postId)
-                .stream()
-                .map(CommentRes::from)
+    /**
+     * 캐시에 저장할 게시글 상세 조회
+     * - 게시글 + 작성자 + 이미지 (단일 쿼리)
+     * - 댓글 첫 페이지 (이후 페이지는 commentNextCursor 로 댓글 API 에서 조회)
+     */
+    private CachedPostDetail loadDetail(Long postId) {
+        BoardRepositoryCustom.BoardDetail detail = boardRepository.findDetailById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다. postId=" + postId));
+        CommentCursorRes commentPage = commentService.findByPost(postId, null, DETAIL_COMMENT_PAGE_SIZE);
+        return CachedPostDetail.of(detail.board(), commentPage);
+    }
+
+    /**
+     * 로그인 사용자의 좋아요 여부 설정 (사용자별 좋아요 캐시, 캐시하지 않는 사용자는 페이지당 쿼리 1회)
+     * - 목록 캐시의 객체는 여러 요청이 공유하므로 복사본에 설정
+     */
+    private List<BoardListRes> withLiked(List<BoardListRes> boards, Long userId) {
+        if (userId == null || boards.isEmpty()) {
+            return boards;
+        }
+        Set<Long> likedPostIds = likedPostCache.filterLiked(
+                userId, boards.stream().map(BoardListRes::getId).toList());
+        return boards.stream()
+                .map(board -> board.toBuilder().isLiked(likedPostIds.contains(board.getId())).build())
                 .toList();
+    }
 
-        // 응답용 통계 조회
-        BoardStats stats = boardStatsRepository.findById(postId)
-                .orElseGet(() -> BoardStats.builder()
-                        .postId(postId)
-                        .likeCount(0L)
-                        .commentCount(0L)
-                        .viewCount(0L)
-                        .build());
-
-        // 현재 사용자가 좋아요를 눌렀는지 확인
-        Boolean isLiked = false;
-        if (userId != null) {
-            isLiked = boardLikeRepository.existsByLikeId_UserIdAndLikeId_PostIdAndDeletedFalse(userId, postId);
+    /**
+     * 이미지 변경분을 JDBC 배치로 반영 (삭제 → 순서 변경 → 추가)
+     */
+    private void applyImageDiff(Long postId, Long userId, BoardImageDiff diff) {
+        boardImageBatchWriter.deleteAllById(diff.removedIds());
+        boardImageBatchWriter.updateSortOrders(diff.reordered().stream()
+                .map(r -> new BoardImageBatchWriter.SortOrderChange(r.imageId(), r.sortOrder()))
+                .toList());
+
+        if (!diff.added().isEmpty()) {
+            Map<String, String> thumbnails = findThumbnails(
+                    diff.added().stream().map(BoardImageDiff.Added::imageUrl).toList());
+            boardImageBatchWriter.insertAll(postId, userId, diff.added().stream()
+                    .map(a -> new BoardImageBatchWriter.NewImage(a.imageUrl(), thumbnails.get(a.imageUrl()), a.sortOrder()))
+                    .toList());
         }
+    }
 
-        // PostRes.of()에서 comments.size()를 사용하여 실제 댓글 수 표시
-        return PostRes.of(board, stats, commentRes, isLiked);
+    /**
+     * 이미 생성된 썸네일 조회 (원본 URL → 썸네일 URL)
+     * - 아직 생성 전이면 ThumbnailService 가 생성 완료 시 BOARD_IMAGE 에 반영
+     */
+    private Map<String, String> findThumbnails(List<String> imageUrls) {
+        return imageFileRepository.findByUrlIn(imageUrls).stream()
+                .filter(imageFile -> imageFile.getThumbnailUrl() != null)
+                .collect(Collectors.toMap(ImageFile::getUrl, ImageFile::getThumbnailUrl, (a, b) -> a));
     }
 }
-
@@ -0,0 +1,223 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.BoardStatsRepositoryCustom.StatsDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 통계(조회수 / 좋아요 수 / 댓글 수) 쓰기 지연(write-behind) 버퍼
+ *
+ * - 조회 / 좋아요 토글 / 댓글 작성·삭제 시에는 메모리의 LongAdder 만 증감시키고 BOARD_STATS 에는 쓰지 않는다.
+ *   (인기 게시글의 BOARD_STATS 행 락 경합 제거)
+ * - 좋아요 / 댓글 증감은 해당 트랜잭션 커밋 후에만 반영한다. (롤백된 변경은 버퍼에 들어오지 않음)
+ * - 좋아요 여부(BOARD_LIKE) / 댓글 행 자체는 각 서비스에서 바로 DB 에 쓰므로 정확하고,
+ *   버퍼는 집계 값만 모아서 반영한다.
+ * - 주기적으로 누적된 증감분을 멀티 로우 UPDATE 로 한 번에 반영한다.
+ * - 애플리케이션 종료 시 남은 증감분을 모두 반영한다.
+ * - DB 반영에 실패하면 증감분을 버퍼에 되돌려 다음 주기에 재시도한다.
+ *
+ * 메트릭
+ * - board.stats.buffer.pending : 반영 대기 중인 게시글 수
+ * - board.stats.flush.lag      : 마지막 성공 flush 이후 경과 시간 (ms)
+ * - board.stats.flush          : flush 소요 시간
+ * - board.view.flushed         : DB 에 반영된 조회수 합계
+ */
+@Slf4j
+@Component
+public class BoardStatsBuffer {
+
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicLong lastFlushAt = new AtomicLong(System.currentTimeMillis());
+
+    private final BoardStatsRepository boardStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer flushTimer;
+    private final Counter flushedViews;
+
+    public BoardStatsBuffer(BoardStatsRepository boardStatsRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.boardStatsRepository = boardStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("board.stats.buffer.pending", pending, Map::size)
+                .description("반영 대기 중인 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("board.stats.flush.lag", lastFlushAt, last -> System.currentTimeMillis() - last.get())
+                .description("마지막 성공 flush 이후 경과 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("board.stats.flush")
+                .description("게시글 통계 flush 소요 시간")
+                .register(meterRegistry);
+        this.flushedViews = Counter.builder("board.view.flushed")
+                .description("DB 에 반영된 조회수 합계")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리)
+     */
+    public void increment(Long postId) {
+        update(postId, p -> p.views.increment());
+    }
+
+    /**
+     * 좋아요 / 댓글 수 증감 (메모리)
+     */
+    public void add(Long postId, long likeDelta, long commentDelta) {
+        update(postId, p -> {
+            if (likeDelta != 0) {
+                p.likes.add(likeDelta);
+            }
+            if (commentDelta != 0) {
+                p.comments.add(commentDelta);
+            }
+        });
+    }
+
+    /**
+     * 상세 조회 이벤트 수신
+     * - 메모리 증가만 하므로 발행 스레드를 막지 않음
+     */
+    @EventListener
+    public void onBoardViewed(BoardViewedEvent event) {
+        increment(event.postId());
+    }
+
+    /**
+     * 좋아요 / 댓글 변경 커밋 후 증감 (트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardStatsChanged(BoardStatsChangedEvent event) {
+        add(event.postId(), event.likeDelta(), event.commentDelta());
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분
+     */
+    public StatsDelta getPending(Long postId) {
+        Pending p = pending.get(postId);
+        return p != null ? p.snapshot() : StatsDelta.ZERO;
+    }
+
+    /**
+     * 누적된 증감분을 DB 에 반영
+     */
+    @Scheduled(fixedDelayString = "${board.stats.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushTimer.record(this::doFlush);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("종료 시 반영하지 못한 통계가 남아 있습니다: posts={}", pending.size());
+        }
+    }
+
+    /**
+     * 게시글의 증감분 변경
+     * - compute 안에서 변경하므로 flush 의 제거(computeIfPresent)와 겹치지 않는다.
+     *   (제거되어 맵에 없는 Pending 에 더해져 유실되는 일 없음)
+     */
+    private void update(Long postId, Consumer<Pending> change) {
+        pending.compute(postId, (id, p) -> {
+            Pending target = p != null ? p : new Pending();
+            change.accept(target);
+            return target;
+        });
+    }
+
+    private void doFlush() {
+        Map<Long, StatsDelta> deltas = new HashMap<>();
+        for (Map.Entry<Long, Pending> entry : pending.entrySet()) {
+            Pending p = entry.getValue();
+            StatsDelta delta = p.drain();
+            if (!delta.isZero()) {
+                // 읽은 만큼만 차감 → 그 사이 들어온 증감분은 그대로 남음
+                deltas.put(entry.getKey(), delta);
+            } else {
+                // 한 주기 동안 변경이 없던 게시글은 버퍼에서 제거
+                // 증감은 compute 안에서만 일어나므로, 여기서 0 이면 제거 전에 들어온 증감분도 없음
+                pending.computeIfPresent(entry.getKey(),
+                        (id, current) -> current == p && current.snapshot().isZero() ? null : current);
+            }
+        }
+
+        if (deltas.isEmpty()) {
+            lastFlushAt.set(System.currentTimeMillis());
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> boardStatsRepository.addStatsDeltas(deltas));
+            lastFlushAt.set(System.currentTimeMillis());
+            flushedViews.increment(deltas.values().stream().mapToLong(StatsDelta::views).sum());
+        } catch (Exception e) {
+            log.error("게시글 통계 반영 실패, 다음 주기에 재시도합니다: posts={}", deltas.size(), e);
+            deltas.forEach(this::restore);
+        }
+    }
+
+    private void restore(Long postId, StatsDelta delta) {
+        update(postId, p -> {
+            p.views.add(delta.views());
+            p.likes.add(delta.likes());
+            p.comments.add(delta.comments());
+        });
+    }
+
+    /**
+     * 게시글별 대기 중인 증감분
+     */
+    private static final class Pending {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder comments = new LongAdder();
+
+        StatsDelta snapshot() {
+            return new StatsDelta(views.sum(), likes.sum(), comments.sum());
+        }
+
+        /**
+         * 현재 값을 읽고 읽은 만큼 차감
+         */
+        StatsDelta drain() {
+            StatsDelta delta = snapshot();
+            views.add(-delta.views());
+            likes.add(-delta.likes());
+            comments.add(-delta.comments());
+            return delta;
+        }
+    }
+}
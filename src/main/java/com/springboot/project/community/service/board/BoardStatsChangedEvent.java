@@ -0,0 +1,16 @@
+package com.springboot.project.community.service.board;
+
+/**
+ * 좋아요 수 / 댓글 수 변경 이벤트
+ * - 커밋 후 BoardStatsBuffer 에 증감분을 모으기 위해 사용 (BOARD_STATS 행 락 경합 제거)
+ */
+public record BoardStatsChangedEvent(Long postId, long likeDelta, long commentDelta) {
+
+    public static BoardStatsChangedEvent like(Long postId, long delta) {
+        return new BoardStatsChangedEvent(postId, delta, 0);
+    }
+
+    public static BoardStatsChangedEvent comment(Long postId, long delta) {
+        return new BoardStatsChangedEvent(postId, 0, delta);
+    }
+}
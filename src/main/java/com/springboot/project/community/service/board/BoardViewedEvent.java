@@ -0,0 +1,8 @@
+package com.springboot.project.community.service.board;
+
+/**
+ * 게시글 상세 조회 이벤트
+ * - 조회수 기록을 상세 조회 트랜잭션과 분리하기 위해 사용
+ */
+public record BoardViewedEvent(Long postId) {
+}
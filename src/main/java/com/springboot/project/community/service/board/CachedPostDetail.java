@@ -0,0 +1,75 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.dto.board.PostRes;
+import com.springboot.project.community.dto.comment.CommentCursorRes;
+import com.springboot.project.community.dto.comment.CommentRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardImage;
+import com.springboot.project.community.entity.BoardStats;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시에 저장하는 게시글 상세 (사용자와 무관한 부분만)
+ * - 제목/본문/작성자/이미지/댓글 첫 페이지
+ * - 좋아요/댓글/조회수와 좋아요 여부는 요청마다 toResponse 에서 덧씌운다
+ */
+public record CachedPostDetail(
+        Long postId,
+        String title,
+        String contents,
+        String author,
+        Long userId,
+        String authorImage,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<String> imageUrls,
+        List<CommentRes> comments,
+        String commentNextCursor) {
+
+    public static CachedPostDetail of(Board board, CommentCursorRes commentPage) {
+        List<String> imageUrls = null;
+        if (board.getImages() != null && !board.getImages().isEmpty()) {
+            imageUrls = board.getImages().stream()
+                    .map(BoardImage::getImageUrl)
+                    .toList();
+        }
+
+        return new CachedPostDetail(
+                board.getPostId(),
+                board.getTitle(),
+                board.getContents(),
+                board.getAuthor().getNickname(),
+                board.getAuthor().getUserId(),
+                board.getAuthor().getImage(),
+                board.getCreatedAt(),
+                board.getUpdatedAt(),
+                imageUrls,
+                List.copyOf(commentPage.getComments()),
+                commentPage.getNextCursor());
+    }
+
+    /**
+     * 요청별 응답 생성 (통계 행이 없으면 0)
+     */
+    public PostRes toResponse(BoardStats stats, boolean isLiked) {
+        return PostRes.builder()
+                .postId(postId)
+                .title(title)
+                .contents(contents)
+                .author(author)
+                .userId(userId)
+                .authorImage(authorImage)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .likeCount(stats != null ? stats.getLikeCount() : 0L)
+                .commentCount(stats != null ? stats.getCommentCount() : 0L)
+                .viewCount(stats != null ? stats.getViewCount() : 0L)
+                .isLiked(isLiked)
+                .imageUrls(imageUrls)
+                .comments(comments)
+                .commentNextCursor(commentNextCursor)
+                .build();
+    }
+}
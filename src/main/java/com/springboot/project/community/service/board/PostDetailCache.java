@@ -0,0 +1,137 @@
+package com.springboot.project.community.service.board;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 상세 캐시 (postId → CachedPostDetail)
+ *
+ * - 최대 max-size 개, LRU 순으로 제거
+ * - 저장 후 ttl-seconds 가 지나면 만료 (프로필 변경 등 이벤트가 없는 변경은 TTL 만큼 늦게 반영)
+ * - 게시글 수정/삭제, 댓글 작성/수정/삭제 시 BoardChangedEvent 로 커밋 후 제거
+ * - 조회 중에 제거가 일어나면 조회한 값은 저장하지 않음 (커밋 전 데이터가 다시 캐시되는 것 방지)
+ *
+ * 메트릭
+ * - board.detail.cache.gets{result=hit|miss} : 캐시 조회 수
+ * - board.detail.cache.evictions             : 용량 초과 / 만료로 제거된 수
+ * - board.detail.cache.size                  : 캐시된 게시글 수
+ */
+@Component
+public class PostDetailCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    // accessOrder = true → 가장 오래 사용하지 않은 항목이 맨 앞 (this 로 동기화)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 무효화가 일어날 때마다 증가 (조회 시작 시점 값과 다르면 저장하지 않음)
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${board.detail-cache.max-size:1000}") int maxSize,
+                           @Value("${board.detail-cache.ttl-seconds:30}") long ttlSeconds) {
+        this(meterRegistry, maxSize, Duration.ofSeconds(ttlSeconds), System::nanoTime);
+    }
+
+    PostDetailCache(MeterRegistry meterRegistry, int maxSize, Duration ttl, LongSupplier nanoTime) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+
+        this.hits = Counter.builder("board.detail.cache.gets")
+                .tag("result", "hit")
+                .description("게시글 상세 캐시 조회 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("board.detail.cache.gets")
+                .tag("result", "miss")
+                .description("게시글 상세 캐시 조회 수")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("board.detail.cache.evictions")
+                .description("용량 초과 / 만료로 제거된 수")
+                .register(meterRegistry);
+        Gauge.builder("board.detail.cache.size", this, PostDetailCache::size)
+                .description("캐시된 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료되었으면 loader 로 조회 후 저장
+     * - loader 에서 발생한 예외(존재하지 않는 게시글 등)는 그대로 전달하고 저장하지 않음
+     */
+    public CachedPostDetail get(Long postId, Function<Long, CachedPostDetail> loader) {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+            Entry entry = entries.get(postId);
+            if (entry != null) {
+                if (nanoTime.getAsLong() - entry.storedAt() < ttlNanos) {
+                    hits.increment();
+                    return entry.detail();
+                }
+                entries.remove(postId);
+                evictions.increment();
+            }
+        }
+
+        // DB 조회는 락 밖에서 (같은 게시글을 동시에 조회하면 중복 조회될 수 있음)
+        misses.increment();
+        CachedPostDetail detail = loader.apply(postId);
+        if (detail != null) {
+            put(postId, detail, startGeneration);
+        }
+        return detail;
+    }
+
+    /**
+     * 게시글 상세 캐시 제거
+     */
+    public synchronized void invalidate(Long postId) {
+        generation++;
+        entries.remove(postId);
+    }
+
+    /**
+     * 게시글 변경 커밋 후 캐시 제거 (트랜잭션 밖에서 발행되면 즉시 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        invalidate(event.postId());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void put(Long postId, CachedPostDetail detail, long startGeneration) {
+        if (generation != startGeneration) {
+            return;
+        }
+        entries.put(postId, new Entry(detail, nanoTime.getAsLong()));
+        if (entries.size() > maxSize) {
+            Map.Entry<Long, Entry> eldest = entries.entrySet().iterator().next();
+            entries.remove(eldest.getKey());
+            evictions.increment();
+        }
+    }
+
+    private record Entry(CachedPostDetail detail, long storedAt) {
+    }
+}
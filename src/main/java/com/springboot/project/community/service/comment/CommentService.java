@@ -3,7 +3,11 @@ package com.springboot.project.community.service.comment;
 import com.springboot.project.community.dto.comment.*;
 import com.springboot.project.community.entity.*;
 import com.springboot.project.community.repository.*;
+import com.springboot.project.community.service.board.BoardChangedEvent;
+import com.springboot.project.community.service.board.BoardStatsChangedEvent;
+import com.springboot.project.community.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,7 +21,10 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
-    private final BoardStatsRepository boardStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 번에 조회할 수 있는 최대 댓글 수
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Transactional
     public CommentRes create(Long userId, Long postId, CommentCreateReq req) {
@@ -26,9 +33,6 @@ public class CommentService {
         Board board = boardRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        // boardStats가 없으면 생성 (Native Query로 동시성 문제 해결)
-        boardStatsRepository.createIfNotExists(postId);
-
         Comment comment = Comment.builder()
                 .author(user)
                 .board(board)
@@ -36,19 +40,48 @@ public class CommentService {
                 .build();
         commentRepository.save(comment);
 
-        // 댓글 수 증가 (Native Query로 동시성 문제 해결)
-        boardStatsRepository.incrementCommentCount(postId);
+        // 댓글 수 증가 (커밋 후 BoardStatsBuffer 에 모아서 반영)
+        eventPublisher.publishEvent(BoardStatsChangedEvent.comment(postId, 1));
+
+        // 커밋 후 게시글 상세 캐시(댓글 첫 페이지) 제거
+        eventPublisher.publishEvent(new BoardChangedEvent(postId));
 
         // 응답 DTO 반환
         return CommentRes.from(comment);
     }
 
+    /**
+     * 댓글 목록 조회 (커서 기반, 작성 순)
+     * - 첫 페이지는 cursor 없이 요청
+     */
     @Transactional(readOnly = true)
-    public List<CommentRes> findByPost(Long postId) {
-        return commentRepository.findByBoard_PostIdOrderByCreatedAtAsc(postId)
-                .stream()
-                .map(CommentRes::from)
-                .toList();
+    public CommentCursorRes findByPost(Long postId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<CommentRes> comments = commentRepository.findCommentsByCursor(
+                postId,
+                decoded != null ? decoded.createdAt() : null,
+                decoded != null ? decoded.id() : null,
+                pageSize + 1);
+
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentRes last = comments.get(comments.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getCommentId());
+        }
+
+        return CommentCursorRes.builder()
+                .comments(comments)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
 
@@ -83,6 +116,9 @@ public class CommentService {
         comment.setContents(req.getContents());
         commentRepository.save(comment);
 
+        // 커밋 후 게시글 상세 캐시(댓글 첫 페이지) 제거
+        eventPublisher.publishEvent(new BoardChangedEvent(postId));
+
         // DTO로 변환하여 반환
         return CommentRes.from(comment);
     }
@@ -117,8 +153,11 @@ public class CommentService {
         // 댓글 삭제
         commentRepository.delete(comment);
 
-        // 댓글 수 감소 (Native Query로 동시성 문제 해결)
-        boardStatsRepository.decrementCommentCount(postId);
+        // 댓글 수 감소 (커밋 후 BoardStatsBuffer 에 모아서 반영)
+        eventPublisher.publishEvent(BoardStatsChangedEvent.comment(postId, -1));
+
+        // 커밋 후 게시글 상세 캐시(댓글 첫 페이지) 제거
+        eventPublisher.publishEvent(new BoardChangedEvent(postId));
 
         // 삭제 응답 반환
         return CommentDeleteRes.builder()
@@ -0,0 +1,243 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.entity.ImageFile;
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.repository.ImageFileRepository;
+import com.springboot.project.community.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 이미지 GC (IMAGE_FILE 참조 수 재계산 + 미사용 이미지 정리)
+ *
+ * 1. 재계산: IMAGE_FILE 을 image_id 순 배치로 읽어 BOARD_IMAGE / USERS 의 실제 참조 수로 ref_count 를 맞춘다.
+ *    - 참조가 없으면 삭제 대기(is_active = false, deleted_at = 현재 시각)
+ *    - 참조가 다시 생기면 활성화
+ *    - 업로드 직후 아직 게시글/프로필에 쓰이지 않은 이미지는 유예 기간 동안 유지
+ * 2. 정리: 삭제 대기 후 유예 기간이 지난 이미지는 행을 잠그고 참조를 다시 확인한 뒤 행 삭제
+ *    → 커밋 후 같은 URL 의 행이 다시 생기지 않았고, 파일도 유예 기간 안에 다시 저장되지 않았을 때만 파일 삭제
+ *
+ * 포그라운드 트래픽과 경쟁하지 않도록 배치마다 별도 트랜잭션을 쓰고,
+ * 초당 처리 행 수(max-rows-per-second)를 넘지 않도록 배치 사이에 대기한다.
+ */
+@Slf4j
+@Component
+public class ImageGarbageCollector {
+
+    private final ImageFileRepository imageFileRepository;
+    private final BoardImageRepository boardImageRepository;
+    private final UserRepository userRepository;
+    private final ImageStore imageStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxRowsPerSecond;
+    private final Duration gracePeriod;
+
+    public ImageGarbageCollector(
+            ImageFileRepository imageFileRepository,
+            BoardImageRepository boardImageRepository,
+            UserRepository userRepository,
+            ImageStore imageStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${image.gc.enabled:true}") boolean enabled,
+            @Value("${image.gc.batch-size:200}") int batchSize,
+            @Value("${image.gc.max-rows-per-second:200}") int maxRowsPerSecond,
+            @Value("${image.gc.grace-period-hours:24}") long gracePeriodHours) {
+        this.imageFileRepository = imageFileRepository;
+        this.boardImageRepository = boardImageRepository;
+        this.userRepository = userRepository;
+        this.imageStore = imageStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxRowsPerSecond = Math.max(1, maxRowsPerSecond);
+        this.gracePeriod = Duration.ofHours(gracePeriodHours);
+    }
+
+    @Scheduled(fixedDelayString = "${image.gc.interval-ms:3600000}",
+            initialDelayString = "${image.gc.initial-delay-ms:600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int reconciled = reconcile();
+            int purged = purge();
+            if (reconciled > 0 || purged > 0) {
+                log.info("이미지 GC 완료: reconciled={}, purged={}", reconciled, purged);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("이미지 GC 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * ref_count / is_active 재계산
+     * @return 변경된 행 수
+     */
+    public int reconcile() throws InterruptedException {
+        LocalDateTime graceCutoff = LocalDateTime.now().minus(gracePeriod);
+        int changed = 0;
+        int lastImageId = 0;
+        while (true) {
+            final int from = lastImageId;
+            BatchResult result = transactionTemplate.execute(status -> reconcileBatch(from, graceCutoff));
+            if (result == null || result.scanned() == 0) {
+                break;
+            }
+            changed += result.changed();
+            lastImageId = result.lastImageId();
+            throttle(result.scanned());
+        }
+        return changed;
+    }
+
+    /**
+     * 삭제 대기 기간이 지난 이미지 정리
+     * @return 삭제된 이미지 수
+     */
+    public int purge() throws InterruptedException {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(gracePeriod);
+        int purged = 0;
+        while (true) {
+            List<String> urls = new ArrayList<>();
+            BatchResult result = transactionTemplate.execute(status -> purgeBatch(deletedBefore, urls));
+            if (result == null || result.scanned() == 0) {
+                break;
+            }
+            // 행 삭제 커밋 후 파일 삭제 (파일 삭제 실패 시 고아 파일만 남고 깨진 참조는 생기지 않음)
+            deleteUnreferencedFiles(urls);
+            purged += result.changed();
+            throttle(result.scanned());
+        }
+        return purged;
+    }
+
+    private BatchResult reconcileBatch(int lastImageId, LocalDateTime graceCutoff) {
+        List<ImageFile> files = imageFileRepository.findByImageIdGreaterThanOrderByImageIdAsc(
+                lastImageId, PageRequest.of(0, batchSize));
+        if (files.isEmpty()) {
+            return new BatchResult(lastImageId, 0, 0);
+        }
+
+        Map<String, Long> references = countReferences(files);
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        for (ImageFile file : files) {
+            long live = references.getOrDefault(file.getUrl(), 0L);
+            boolean recent = file.getCreatedAt() != null && file.getCreatedAt().isAfter(graceCutoff);
+            boolean active = live > 0 || recent;
+            LocalDateTime deletedAt = active ? null
+                    : (file.getDeletedAt() != null ? file.getDeletedAt() : now);
+
+            if (!Objects.equals(file.getRefCount(), (int) live)
+                    || !Objects.equals(file.getIsActive(), active)
+                    || !Objects.equals(file.getDeletedAt(), deletedAt)) {
+                imageFileRepository.updateReconciled(file.getImageId(), (int) live, active, deletedAt);
+                changed++;
+            }
+        }
+        return new BatchResult(files.get(files.size() - 1).getImageId(), files.size(), changed);
+    }
+
+    /**
+     * 물리 삭제 한 배치
+     * - 대상 행을 잠근 뒤(SELECT ... FOR UPDATE) 참조를 다시 확인 (재계산 이후 게시글/프로필에서 다시 사용된 경우 활성화)
+     * - 잠근 행만 삭제하므로 그 사이 재등록된 행은 삭제하지 않음
+     * - 삭제한 행의 파일 URL 은 urls 에 담아 반환 (커밋 후 삭제)
+     */
+    private BatchResult purgeBatch(LocalDateTime deletedBefore, List<String> urls) {
+        List<ImageFile> files = imageFileRepository.findByIsActiveFalseAndDeletedAtBeforeOrderByImageIdAsc(
+                deletedBefore, PageRequest.of(0, batchSize));
+        if (files.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        Map<String, Long> references = countReferences(files);
+        List<ImageFile> targets = new ArrayList<>();
+        for (ImageFile file : files) {
+            long live = references.getOrDefault(file.getUrl(), 0L);
+            if (live > 0) {
+                imageFileRepository.updateReconciled(file.getImageId(), (int) live, true, null);
+            } else {
+                targets.add(file);
+            }
+        }
+        imageFileRepository.deleteAllInBatch(targets);
+
+        for (ImageFile file : targets) {
+            urls.add(file.getUrl());
+            String thumbnailUrl = file.getThumbnailUrl();
+            if (thumbnailUrl != null && !thumbnailUrl.equals(file.getUrl())) {
+                urls.add(thumbnailUrl);
+            }
+        }
+        return new BatchResult(0, files.size(), targets.size());
+    }
+
+    /**
+     * URL 별 실제 참조 수 (게시글 이미지 + 프로필 이미지)
+     */
+    private Map<String, Long> countReferences(List<ImageFile> files) {
+        List<String> urls = files.stream().map(ImageFile::getUrl).toList();
+        Map<String, Long> references = new HashMap<>();
+        for (Object[] row : boardImageRepository.countByImageUrlIn(urls)) {
+            references.merge((String) row[0], (Long) row[1], Long::sum);
+        }
+        for (Object[] row : userRepository.countByImageIn(urls)) {
+            references.merge((String) row[0], (Long) row[1], Long::sum);
+        }
+        return references;
+    }
+
+    /**
+     * 커밋 후 파일 삭제
+     * - 삭제 커밋 이후 같은 내용이 다시 업로드되었거나(같은 URL 로 새 행),
+     *   다른 이미지의 썸네일로 쓰이는 파일(원본이 작아 썸네일 = 원본인 경우 포함)은 남긴다.
+     * - 업로드 중이라 행이 아직 커밋되지 않은 경우는 행으로 알 수 없으므로,
+     *   유예 기간 안에 다시 저장된 파일은 저장소가 삭제하지 않는다.
+     */
+    private void deleteUnreferencedFiles(List<String> urls) {
+        Instant storedBefore = Instant.now().minus(gracePeriod);
+        for (String url : urls) {
+            if (imageFileRepository.existsByUrlOrThumbnailUrl(url, url)) {
+                continue;
+            }
+            imageStore.keyOf(url).ifPresent(key -> {
+                try {
+                    imageStore.delete(key, storedBefore);
+                } catch (IOException e) {
+                    log.warn("이미지 파일 삭제 실패: key={}, error={}", key, e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * 초당 처리 행 수 제한
+     */
+    private void throttle(int rows) throws InterruptedException {
+        Thread.sleep(rows * 1000L / maxRowsPerSecond);
+    }
+
+    private record BatchResult(int lastImageId, int scanned, int changed) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.repository.ImageFileRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이미지 서비스
+ * - 업로드 스트림 / Base64 data URL 이미지를 ImageStore 에 저장하고 URL 로 변환
+ * - 저장한 이미지는 IMAGE_FILE 에 URL 단위로 등록 (같은 내용이면 ref_count 증가)
+ *   파일 저장(최대 수 MB 스트리밍)은 트랜잭션 밖에서, 등록 upsert 만 트랜잭션에서 실행 (커넥션 점유 최소화)
+ * - 썸네일이 없는 이미지는 ImageStoredEvent 발행 → ThumbnailService 가 비동기 생성
+ * - 이미지 URL 검증
+ */
+@Service
+public class ImageService {
+
+    // 허용하는 이미지 타입 → 저장 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/png", "png",
+            "image/jpeg", "jpg",
+            "image/jpg", "jpg",
+            "image/gif", "gif",
+            "image/webp", "webp"
+    );
+
+    // 매직 넘버 확인에 필요한 최대 바이트 수 (WEBP: RIFF????WEBP)
+    private static final int SNIFF_LENGTH = 12;
+
+    // "data:image/png;base64," 헤더 최대 길이
+    private static final int MAX_DATA_URL_HEADER = 64;
+
+    // USERS.image / BOARD_IMAGE.image_url 컬럼 길이
+    private static final int MAX_URL_LENGTH = 255;
+
+    private final ImageStore imageStore;
+    private final ImageFileRepository imageFileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImageService(ImageStore imageStore,
+                        ImageFileRepository imageFileRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager) {
+        this.imageStore = imageStore;
+        this.imageFileRepository = imageFileRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 업로드 스트림 저장
+     * - 형식은 요청 Content-Type 대신 파일 앞부분(매직 넘버)으로 판별
+     * - 저장소에 스트리밍으로 저장하면서 SHA-256 계산 → 같은 내용이면 기존 IMAGE_FILE 재사용
+     */
+    public StoredImage upload(InputStream in) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(in, SNIFF_LENGTH);
+        byte[] head = pushback.readNBytes(SNIFF_LENGTH);
+        String extension = sniffExtension(head);
+        pushback.unread(head);
+        return register(imageStore.store(pushback, extension));
+    }
+
+    /**
+     * 프로필 이미지 요청 값을 저장할 URL 로 변환
+     * - Base64 data URL 이면 저장소에 저장 후 URL 반환
+     * - 그 외에는 URL 로 보고 길이만 검증
+     * - null/빈 문자열이면 null (이미지 없음)
+     */
+    public String resolveProfileImage(String image) {
+        if (image == null || image.isBlank()) {
+            return null;
+        }
+        if (image.startsWith("data:")) {
+            try {
+                return storeDataUrl(new StringReader(image)).url();
+            } catch (IOException e) {
+                throw new UncheckedIOException("이미지 저장 중 오류가 발생했습니다.", e);
+            }
+        }
+        if (image.length() > MAX_URL_LENGTH) {
+            throw new IllegalArgumentException("이미지 URL이 너무 깁니다.");
+        }
+        return image;
+    }
+
+    /**
+     * Base64 data URL 을 스트리밍으로 디코딩하여 저장
+     * - "data:{타입};base64,{본문}" 형식
+     * - 본문을 String/byte[] 로 모으지 않고 Reader 에서 바로 디코딩
+     */
+    public StoredImage storeDataUrl(Reader reader) throws IOException {
+        String extension = extensionOf(readDataUrlHeader(reader));
+        try (InputStream decoded = Base64.getMimeDecoder().wrap(new AsciiInputStream(reader))) {
+            return register(imageStore.store(decoded, extension));
+        }
+    }
+
+    /**
+     * 이미지 타입으로 저장 확장자 조회 (허용하지 않는 타입이면 IllegalArgumentException)
+     */
+    public static String extensionOf(String contentType) {
+        String extension = contentType == null ? null : EXTENSIONS.get(contentType.toLowerCase());
+        if (extension == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        }
+        return extension;
+    }
+
+    /**
+     * URL 이 이 서버의 저장소 URL 이면 키 반환
+     */
+    public Optional<String> keyOf(String url) {
+        return imageStore.keyOf(url);
+    }
+
+    /**
+     * 저장한 이미지를 IMAGE_FILE 에 등록
+     * - 같은 URL(= 같은 내용)이 있으면 ref_count 만 증가 (단일 upsert, 동시 업로드에도 중복 키 오류 없음)
+     * - 썸네일이 아직 없으면 생성 요청 (커밋 후 처리)
+     * - 호출자의 트랜잭션이 있으면 참여, 없으면 upsert 만 짧은 트랜잭션으로 실행
+     */
+    private StoredImage register(StoredImage stored) {
+        transactionTemplate.executeWithoutResult(status -> {
+            imageFileRepository.upsertRef(stored.url());
+            if (imageFileRepository.findThumbnailUrlByUrl(stored.url()).isEmpty()) {
+                eventPublisher.publishEvent(new ImageStoredEvent(stored.key(), stored.url()));
+            }
+        });
+        return stored;
+    }
+
+    /**
+     * 파일 앞부분으로 이미지 형식 판별 (허용하지 않는 형식이면 IllegalArgumentException)
+     */
+    private static String sniffExtension(byte[] head) {
+        if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "png";
+        }
+        if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+            return "jpg";
+        }
+        if (startsWith(head, 0, 'G', 'I', 'F', '8')) {
+            return "gif";
+        }
+        if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) {
+            return "webp";
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+    }
+
+    private static boolean startsWith(byte[] data, int offset, int... expected) {
+        if (data.length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((data[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * data URL 헤더를 ',' 까지 읽어 이미지 타입 반환
+     */
+    private static String readDataUrlHeader(Reader reader) throws IOException {
+        StringBuilder header = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != ',') {
+            if (header.length() >= MAX_DATA_URL_HEADER) {
+                throw new IllegalArgumentException("잘못된 이미지 형식입니다.");
+            }
+            header.append((char) c);
+        }
+        String value = header.toString();
+        if (c != ',' || !value.startsWith("data:") || !value.endsWith(";base64")) {
+            throw new IllegalArgumentException("잘못된 이미지 형식입니다.");
+        }
+        return value.substring("data:".length(), value.length() - ";base64".length());
+    }
+
+    /**
+     * Base64 문자 Reader 를 바이트 스트림으로 변환 (Base64 문자는 모두 ASCII)
+     */
+    private static final class AsciiInputStream extends InputStream {
+
+        private final Reader reader;
+        private final char[] chars = new char[8 * 1024];
+
+        private AsciiInputStream(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return reader.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = reader.read(chars, 0, Math.min(len, chars.length));
+            for (int i = 0; i < read; i++) {
+                b[off + i] = (byte) chars[i];
+            }
+            return read;
+        }
+    }
+}
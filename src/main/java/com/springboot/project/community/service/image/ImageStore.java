@@ -0,0 +1,71 @@
+package com.springboot.project.community.service.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 바이너리 저장소
+ * - 내용 해시(SHA-256)를 키로 사용하는 content-addressed 저장소
+ * - 같은 내용의 이미지는 한 번만 저장된다.
+ * - DB에는 바이너리 대신 키(또는 URL)만 저장
+ *
+ * 구현체: LocalImageStore (로컬 파일시스템), 필요 시 오브젝트 스토리지 구현체로 교체
+ */
+public interface ImageStore {
+
+    // 키 형식: 64자리 소문자 hex + 확장자
+    Pattern KEY_PATTERN = Pattern.compile("^[0-9a-f]{64}\\.(png|jpg|gif|webp)$");
+
+    /**
+     * 키 형식 검증 (파일 경로 등으로 사용되므로 반드시 확인)
+     */
+    static boolean isValidKey(String key) {
+        return key != null && KEY_PATTERN.matcher(key).matches();
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 저장
+     * - 전체 내용을 메모리에 올리지 않고 저장하면서 해시를 계산
+     * - 같은 내용이 이미 있어도 다시 저장 (저장 시각 갱신 → delete 의 storedBefore 판단에 사용)
+     * @param in        이미지 바이트 스트림 (호출자가 닫음)
+     * @param extension 파일 확장자 (png, jpg, gif, webp)
+     */
+    StoredImage store(InputStream in, String extension) throws IOException;
+
+    /**
+     * 저장된 이미지 크기 (없으면 empty)
+     */
+    Optional<Long> size(String key);
+
+    /**
+     * 저장된 이미지 읽기용 스트림 (호출자가 닫음)
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 저장된 이미지를 target 채널로 전송
+     * @return 전송한 바이트 수
+     */
+    long transferTo(String key, WritableByteChannel target) throws IOException;
+
+    /**
+     * 저장된 이미지 삭제
+     * - 마지막 저장 시각이 storedBefore 이후이면 삭제하지 않음 (삭제 판단 이후 같은 내용이 다시 저장된 경우)
+     * @return 삭제했으면 true (없거나 최근에 저장되어 남긴 경우 false)
+     */
+    boolean delete(String key, Instant storedBefore) throws IOException;
+
+    /**
+     * 키로 클라이언트가 사용할 URL 생성
+     */
+    String urlOf(String key);
+
+    /**
+     * URL에서 키 추출 (이 저장소의 URL이 아니면 empty)
+     */
+    Optional<String> keyOf(String url);
+}
@@ -0,0 +1,9 @@
+package com.springboot.project.community.service.image;
+
+/**
+ * 이미지 저장 이벤트 (썸네일 생성 트리거)
+ * @param key 저장소 키
+ * @param url 원본 이미지 URL
+ */
+public record ImageStoredEvent(String key, String url) {
+}
@@ -0,0 +1,178 @@
+package com.springboot.project.community.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 로컬 파일시스템 이미지 저장소
+ *
+ * - 저장 경로: {root-dir}/{해시 앞 2자리}/{해시 3~4자리}/{sha256}.{확장자}
+ * - 임시 파일에 쓰면서 SHA-256 계산 → 최종 경로로 원자적 이동
+ *   (이미 있어도 교체 → 파일 수정 시각이 마지막 저장 시각이 되어 GC 가 방금 저장된 파일을 지우지 않음)
+ * - 삭제는 파일을 임시 디렉터리로 옮겨 선점한 뒤 수정 시각을 확인 → 최근 저장된 파일이면 되돌림
+ * - 조회는 FileChannel.transferTo 로 전송 (힙에 파일 내용을 올리지 않음)
+ */
+@Slf4j
+@Component
+public class LocalImageStore implements ImageStore {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Path rootDir;
+    private final Path tmpDir;
+    private final String urlPrefix;
+    private final long maxSizeBytes;
+
+    public LocalImageStore(
+            @Value("${image.storage.local.root-dir:./uploads/images}") String rootDir,
+            @Value("${image.storage.url-prefix:/api/images/}") String urlPrefix,
+            @Value("${image.storage.max-size-bytes:10485760}") long maxSizeBytes) throws IOException {
+        this.rootDir = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.tmpDir = this.rootDir.resolve("tmp");
+        this.urlPrefix = urlPrefix;
+        this.maxSizeBytes = maxSizeBytes;
+        Files.createDirectories(this.tmpDir);
+    }
+
+    @Override
+    public StoredImage store(InputStream in, String extension) throws IOException {
+        MessageDigest digest = sha256();
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(tmp, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSizeBytes) {
+                        throw new IllegalArgumentException("이미지 용량이 너무 큽니다. (최대 " + maxSizeBytes + " bytes)");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("빈 이미지는 저장할 수 없습니다.");
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            moveIntoPlace(tmp, target);
+            return new StoredImage(key, urlOf(key), size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Optional<Long> size(String key) {
+        if (!ImageStore.isValidKey(key)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.size(resolve(key)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public long transferTo(String key, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            // transferTo 는 요청한 길이보다 적게 보낼 수 있으므로 끝까지 반복
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return position;
+        }
+    }
+
+    @Override
+    public boolean delete(String key, Instant storedBefore) throws IOException {
+        if (!ImageStore.isValidKey(key)) {
+            return false;
+        }
+        Path target = resolve(key);
+        // 파일을 먼저 옮겨 선점 (이후의 저장은 새 파일을 만들므로 영향 없음)
+        Path claimed = tmpDir.resolve("delete-" + System.nanoTime() + "-" + key);
+        try {
+            Files.move(target, claimed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (!Files.getLastModifiedTime(claimed).toInstant().isBefore(storedBefore)) {
+            // 선점 직전에 다시 저장됨 - 내용이 같으므로 그대로 되돌림
+            Files.move(claimed, target, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("최근 저장된 이미지는 삭제하지 않음: {}", key);
+            return false;
+        }
+        Files.delete(claimed);
+        return true;
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return urlPrefix + key;
+    }
+
+    @Override
+    public Optional<String> keyOf(String url) {
+        if (url == null || !url.startsWith(urlPrefix)) {
+            return Optional.empty();
+        }
+        String key = url.substring(urlPrefix.length());
+        return ImageStore.isValidKey(key) ? Optional.of(key) : Optional.empty();
+    }
+
+    private Path resolve(String key) {
+        if (!ImageStore.isValidKey(key)) {
+            throw new IllegalArgumentException("잘못된 이미지 키입니다.");
+        }
+        return rootDir.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private void moveIntoPlace(Path tmp, Path target) throws IOException {
+        try {
+            // 같은 내용이 이미 있어도 교체 (내용이 같으므로 읽는 쪽에는 차이 없음)
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.springboot.project.community.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * 프로필 이미지 이관 작업 (USERS.image Base64 → ImageStore)
+ *
+ * - USERS.image 에 Base64 data URL 로 저장된 이미지를 저장소로 옮기고 URL 로 교체한다.
+ * - 애플리케이션 기동 완료 후 별도 스레드에서 user_id 순으로 배치 처리
+ * - 이미지 본문은 한 행씩 JDBC 문자 스트림으로 읽어 디코딩하면서 저장 (String 으로 올리지 않음)
+ * - 이관 도중 사용자가 이미지를 바꾼 경우 덮어쓰지 않음 (image 가 아직 data URL 인 행만 갱신)
+ *
+ * 이관이 끝나면 아래 DDL 로 컬럼을 줄인다.
+ *   ALTER TABLE USERS MODIFY image VARCHAR(255) NULL;
+ */
+@Slf4j
+@Component
+public class ProfileImageMigrationJob {
+
+    private static final String DATA_URL_CONDITION = "image LIKE 'data:%'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageService imageService;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ProfileImageMigrationJob(
+            JdbcTemplate jdbcTemplate,
+            ImageService imageService,
+            @Value("${image.migration.enabled:true}") boolean enabled,
+            @Value("${image.migration.batch-size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageService = imageService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::migrate, "profile-image-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Base64 프로필 이미지를 배치 단위로 이관
+     * @return 이관한 사용자 수
+     */
+    public int migrate() {
+        int migrated = 0;
+        int failed = 0;
+        long lastUserId = 0L;
+        try {
+            while (true) {
+                // 대상 ID만 먼저 조회 (LONGTEXT 본문은 읽지 않음)
+                List<Long> userIds = jdbcTemplate.queryForList(
+                        "SELECT user_id FROM USERS WHERE user_id > ? AND " + DATA_URL_CONDITION
+                                + " ORDER BY user_id LIMIT ?",
+                        Long.class, lastUserId, batchSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                for (Long userId : userIds) {
+                    if (migrateUser(userId)) {
+                        migrated++;
+                    } else {
+                        failed++;
+                    }
+                    lastUserId = userId;
+                }
+            }
+            if (migrated > 0 || failed > 0) {
+                log.info("프로필 이미지 이관 완료: migrated={}, failed={}", migrated, failed);
+            }
+        } catch (Exception e) {
+            log.error("프로필 이미지 이관 중 오류 발생: lastUserId={}", lastUserId, e);
+        }
+        return migrated;
+    }
+
+    /**
+     * 사용자 한 명의 이미지 이관
+     * - 형식이 잘못된 이미지는 건너뛰고 원본을 그대로 둔다.
+     */
+    private boolean migrateUser(Long userId) {
+        try {
+            String url = jdbcTemplate.query(
+                    "SELECT image FROM USERS WHERE user_id = ? AND " + DATA_URL_CONDITION,
+                    rs -> {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        try (Reader reader = rs.getCharacterStream("image")) {
+                            return imageService.storeDataUrl(reader).url();
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    },
+                    userId);
+            if (url == null) {
+                // 그 사이 이미지가 변경됨
+                return true;
+            }
+            // updated_at 은 사용자 수정 시각이므로 유지
+            jdbcTemplate.update(
+                    "UPDATE USERS SET image = ?, updated_at = updated_at WHERE user_id = ? AND " + DATA_URL_CONDITION,
+                    url, userId);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("프로필 이미지 이관 실패: userId={}, error={}", userId, e.getMessage());
+            return false;
+        }
+    }
+}
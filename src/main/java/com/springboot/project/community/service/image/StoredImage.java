@@ -0,0 +1,10 @@
+package com.springboot.project.community.service.image;
+
+/**
+ * 저장된 이미지 정보
+ * @param key  저장소 키 ("{sha256}.{확장자}")
+ * @param url  클라이언트가 사용할 URL
+ * @param size 바이트 수
+ */
+public record StoredImage(String key, String url, long size) {
+}
@@ -0,0 +1,167 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.repository.ImageFileRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 썸네일 생성 서비스
+ *
+ * - 이미지 저장(ImageStoredEvent) 트랜잭션 커밋 후 작업 큐에 등록 → 고정 크기 워커 풀에서 생성
+ * - 긴 변이 {size}px 이하가 되도록 축소하여 원본과 같은 저장소에 저장 (content-addressed)
+ * - 결과는 IMAGE_FILE.thumbnail_url / BOARD_IMAGE.thumbnail_url 에 기록
+ * - 원본이 이미 작거나 디코더가 없는 형식(WEBP 등)이면 원본 URL 을 썸네일로 기록
+ * - 큐가 가득 차면 요청을 버린다 (썸네일이 없으면 원본이 표시되고, 같은 이미지가 다시 업로드될 때 재시도)
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private final ImageStore imageStore;
+    private final ImageFileRepository imageFileRepository;
+    private final BoardImageRepository boardImageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int size;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailService(
+            ImageStore imageStore,
+            ImageFileRepository imageFileRepository,
+            BoardImageRepository boardImageRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${image.thumbnail.size:200}") int size,
+            @Value("${image.thumbnail.workers:2}") int workers,
+            @Value("${image.thumbnail.queue-capacity:100}") int queueCapacity) {
+        this.imageStore = imageStore;
+        this.imageFileRepository = imageFileRepository;
+        this.boardImageRepository = boardImageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.size = size;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-thumbnail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이미지 저장 커밋 후 썸네일 생성 요청
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageStored(ImageStoredEvent event) {
+        try {
+            executor.execute(() -> process(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("썸네일 생성 대기열이 가득 차 건너뜀: key={}", event.key());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void process(ImageStoredEvent event) {
+        try {
+            String thumbnailUrl = createThumbnail(event.key());
+            transactionTemplate.executeWithoutResult(status -> {
+                imageFileRepository.updateThumbnailUrl(event.url(), thumbnailUrl);
+                boardImageRepository.updateThumbnailUrl(event.url(), thumbnailUrl);
+            });
+        } catch (Exception e) {
+            log.error("썸네일 생성 중 오류 발생: key={}", event.key(), e);
+        }
+    }
+
+    /**
+     * 썸네일 생성 후 URL 반환 (축소가 필요 없으면 원본 URL)
+     * - 큰 이미지는 디코딩 단계에서 서브샘플링하여 원본 전체를 메모리에 올리지 않음
+     */
+    String createThumbnail(String key) throws IOException {
+        String originalUrl = imageStore.urlOf(key);
+        try (InputStream in = imageStore.open(key);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return originalUrl; // 디코더 없음
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= size && height <= size) {
+                    return originalUrl;
+                }
+
+                // 목표 크기의 2배 정도까지만 디코딩
+                int step = Math.max(1, Math.max(width, height) / (size * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage source = reader.read(0, param);
+
+                // JPEG 는 JPEG 로, 나머지(PNG/GIF)는 투명도 유지를 위해 PNG 로 저장
+                boolean jpeg = key.endsWith(".jpg");
+                String format = jpeg ? "jpg" : "png";
+                BufferedImage thumbnail = scale(source, jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(thumbnail, format, out);
+                return imageStore.store(new ByteArrayInputStream(out.toByteArray()), format).url();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 size 가 되도록 비율 유지 축소
+     */
+    private BufferedImage scale(BufferedImage source, int type) {
+        double ratio = (double) size / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -1,93 +1,56 @@
 package com.springboot.project.community.service.like;
 
 import com.springboot.project.community.dto.like.LikeToggleRes;
-import com.springboot.project.community.entity.Board;
-import com.springboot.project.community.entity.BoardLike;
-import com.springboot.project.community.entity.BoardLikeId;
-import com.springboot.project.community.entity.BoardStats;
-import com.springboot.project.community.entity.User;
 import com.springboot.project.community.repository.BoardLikeRepository;
-import com.springboot.project.community.repository.BoardRepository;
-import com.springboot.project.community.repository.BoardStatsRepository;
-import com.springboot.project.community.repository.UserRepository;
+import com.springboot.project.community.service.board.BoardStatsBuffer;
+import com.springboot.project.community.service.board.BoardStatsChangedEvent;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 /**
  * 좋아요 토글 서비스
- * - Builder 필드명/boolean 게터 문제를 피하기 위해 setter 기반으로 안전하게 작성
+ * - 사용자/게시글 엔티티를 조회하지 않고 2개의 SQL 로 처리
+ *   1. BOARD_LIKE upsert 로 토글 (존재하지 않는 게시글은 외래키 위반)
+ *   2. 토글 결과 + 현재 좋아요 수 조회
+ * - 좋아요 여부는 BOARD_LIKE 에 바로 기록되므로 정확하고,
+ *   BOARD_STATS 좋아요 수는 커밋 후 BoardStatsBuffer 에 모아서 주기적으로 반영 (행 락 경합 없음)
+ * - 응답의 좋아요 수는 다시 조회하지 않고 조회 값 + 반영 대기분 + 증감으로 계산
  */
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
-    private final BoardRepository boardRepository;
-    private final UserRepository userRepository;
     private final BoardLikeRepository boardLikeRepository;
-    private final BoardStatsRepository boardStatsRepository;
+    private final BoardStatsBuffer statsBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LikeToggleRes toggle(Long userId, Long postId) {
-        // 1) 유저/게시글 검증
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Board board = boardRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
-        // 2) boardStats가 없으면 생성 (Native Query로 동시성 문제 해결)
-        boardStatsRepository.createIfNotExists(postId);
-
-        // 3) 복합키 구성 (본인의 userId로만 조회)
-        BoardLikeId likeId = new BoardLikeId(userId, postId);
-
-        // 4) 본인이 누른 좋아요만 확인 (남이 누른 좋아요는 조회되지 않음)
-        BoardLike existing = boardLikeRepository.findById(likeId).orElse(null);
-        boolean liked;
-
-        if (existing == null) {
-            // 본인이 좋아요를 누르지 않았으면 → 좋아요 추가
-            BoardLike newLike = new BoardLike();
-            newLike.setLikeId(likeId);
-            newLike.setUser(user);
-            newLike.setBoard(board);
-            newLike.setDeleted(false);
-            boardLikeRepository.save(newLike);
-            liked = true;
-            
-            // 좋아요 수 증가 (Native Query로 동시성 문제 해결)
-            boardStatsRepository.incrementLikeCount(postId);
-        } else if (!existing.isDeleted()) {
-            // 본인이 누른 좋아요면 → 좋아요 취소
-            existing.setDeleted(true);
-            boardLikeRepository.save(existing);
-            liked = false;
-            
-            // 좋아요 수 감소 (Native Query로 동시성 문제 해결)
-            boardStatsRepository.decrementLikeCount(postId);
-        } else {
-            // 이미 취소된 좋아요면 → 다시 좋아요
-            existing.setDeleted(false);
-            boardLikeRepository.save(existing);
-            liked = true;
-            
-            // 좋아요 수 증가 (Native Query로 동시성 문제 해결)
-            boardStatsRepository.incrementLikeCount(postId);
+        // 1) 토글 (userId 는 인증된 사용자, 게시글 존재 여부는 외래키로 검증)
+        try {
+            boardLikeRepository.toggle(userId, postId);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
         }
 
-        // 5) 현재 좋아요 수 조회
-        BoardStats stats = boardStatsRepository.findById(postId)
-                .orElseGet(() -> BoardStats.builder()
-                        .postId(postId)
-                        .likeCount(0L)
-                        .commentCount(0L)
-                        .viewCount(0L)
-                        .build());
+        // 2) 토글 결과 (본인 행은 1) 에서 락을 잡았으므로 방금 반영한 값)
+        BoardLikeRepository.LikeState state = boardLikeRepository.findLikeState(userId, postId)
+                .orElseThrow(() -> new IllegalStateException("좋아요 상태를 조회할 수 없습니다."));
+        boolean liked = !state.getDeleted();
+        long delta = liked ? 1 : -1;
+
+        // 3) 좋아요 수 증감 (커밋 후 BoardStatsBuffer 에 모아서 반영) / 사용자별 좋아요 캐시 갱신
+        eventPublisher.publishEvent(BoardStatsChangedEvent.like(postId, delta));
+        eventPublisher.publishEvent(new LikeToggledEvent(userId, postId, liked));
 
-        // 6) 응답
+        // 4) 응답
+        long likeCount = state.getLikeCount() + statsBuffer.getPending(postId).likes() + delta;
         return LikeToggleRes.builder()
                 .postId(postId)
-                .likeCount(stats.getLikeCount())
+                .likeCount(Math.max(likeCount, 0))
                 .liked(liked)
                 .build();
     }
@@ -0,0 +1,8 @@
+package com.springboot.project.community.service.like;
+
+/**
+ * 좋아요 토글 이벤트
+ * - 커밋 후 LikedPostCache 의 사용자별 좋아요 게시글 목록을 갱신하기 위해 사용
+ */
+public record LikeToggledEvent(Long userId, Long postId, boolean liked) {
+}
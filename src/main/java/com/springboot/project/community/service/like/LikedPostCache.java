@@ -0,0 +1,229 @@
+package com.springboot.project.community.service.like;
+
+import com.springboot.project.community.repository.BoardLikeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 좋아요 게시글 캐시 (userId → 정렬된 long[] postId + 적재 시각)
+ *
+ * - 상세 / 목록의 좋아요 여부를 DB 대신 메모리에서 확인 (이진 탐색, 박싱 없음)
+ * - 처음 확인할 때 BOARD_LIKE 에서 해당 사용자의 좋아요를 모두 읽어 적재
+ *   (호출자의 readOnly 트랜잭션 스냅샷은 이미 고정되어 있을 수 있으므로 새 트랜잭션에서 조회)
+ * - 적재 중에 같은 사용자의 토글이 반영되면 적재 결과는 저장하지 않음 (다른 사용자의 토글은 영향 없음)
+ * - 좋아요 토글 커밋 후 LikeToggledEvent 로 캐시된 목록에 추가/제거 (copy-on-write)
+ * - 최대 max-users 명, LRU 순으로 제거
+ * - 적재 후 ttl-seconds 가 지나면 만료 (다른 인스턴스에서의 토글 등 이벤트로 받지 못한 변경은 TTL 안에 반영)
+ * - 좋아요가 max-likes-per-user 개를 넘는 사용자는 캐시하지 않고 DB 조회 (메모리 상한)
+ * - 삭제된 게시글 ID 가 남아 있어도 해당 게시글은 조회되지 않으므로 정리하지 않음
+ *
+ * 메트릭
+ * - like.cache.gets{result=hit|miss} : 사용자별 좋아요 목록 조회 수 (too-many 사용자는 miss)
+ * - like.cache.size                  : 캐시된 사용자 수
+ */
+@Component
+public class LikedPostCache {
+
+    // 좋아요가 너무 많아 캐시하지 않는 사용자 표시 (LRU 에 같이 두어 매번 적재를 시도하지 않음)
+    private static final long[] TOO_MANY = new long[0];
+
+    private final BoardLikeRepository boardLikeRepository;
+    private final TransactionTemplate loadTransaction;
+    private final int maxUsers;
+    private final int maxLikesPerUser;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    // accessOrder = true → 가장 오래 사용하지 않은 사용자가 맨 앞 (this 로 동기화)
+    private final LinkedHashMap<Long, Entry> entries;
+
+    // 적재 중인 사용자 → 적재 시작 시 받은 세대 (this 로 동기화)
+    // 같은 사용자의 토글이 반영되면 제거 → 적재가 끝났을 때 값이 그대로일 때만 저장
+    private final Map<Long, Long> loadingGenerations = new HashMap<>();
+    private long nextGeneration;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public LikedPostCache(BoardLikeRepository boardLikeRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${like.cache.max-users:10000}") int maxUsers,
+                          @Value("${like.cache.max-likes-per-user:5000}") int maxLikesPerUser,
+                          @Value("${like.cache.ttl-seconds:600}") long ttlSeconds) {
+        this(boardLikeRepository, transactionManager, meterRegistry, maxUsers, maxLikesPerUser,
+                Duration.ofSeconds(ttlSeconds), System::nanoTime);
+    }
+
+    LikedPostCache(BoardLikeRepository boardLikeRepository, PlatformTransactionManager transactionManager,
+                   MeterRegistry meterRegistry, int maxUsers, int maxLikesPerUser, Duration ttl, LongSupplier nanoTime) {
+        this.boardLikeRepository = boardLikeRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.maxUsers = maxUsers;
+        this.maxLikesPerUser = maxLikesPerUser;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > LikedPostCache.this.maxUsers;
+            }
+        };
+
+        this.hits = Counter.builder("like.cache.gets")
+                .tag("result", "hit")
+                .description("사용자별 좋아요 목록 캐시 조회 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("like.cache.gets")
+                .tag("result", "miss")
+                .description("사용자별 좋아요 목록 캐시 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("like.cache.size", this, LikedPostCache::size)
+                .description("캐시된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자가 게시글에 좋아요를 눌렀는지 확인
+     */
+    public boolean isLiked(Long userId, Long postId) {
+        long[] liked = likedPostsOf(userId);
+        if (liked == TOO_MANY) {
+            return boardLikeRepository.existsByLikeId_UserIdAndLikeId_PostIdAndDeletedFalse(userId, postId);
+        }
+        return Arrays.binarySearch(liked, postId) >= 0;
+    }
+
+    /**
+     * 게시글 목록 중 사용자가 좋아요를 누른 게시글 ID
+     */
+    public Set<Long> filterLiked(Long userId, Collection<Long> postIds) {
+        long[] liked = likedPostsOf(userId);
+        if (liked == TOO_MANY) {
+            return boardLikeRepository.findLikedPostIds(userId, postIds);
+        }
+        Set<Long> result = new HashSet<>();
+        for (Long postId : postIds) {
+            if (Arrays.binarySearch(liked, postId) >= 0) {
+                result.add(postId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 좋아요 토글 커밋 후 캐시된 사용자면 목록 갱신 (트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onLikeToggled(LikeToggledEvent event) {
+        loadingGenerations.remove(event.userId());
+        Entry entry = entries.get(event.userId());
+        if (entry == null || entry.postIds() == TOO_MANY) {
+            return;
+        }
+        // 적재 시각은 유지 (토글로 만료가 늦춰지지 않음)
+        long[] liked = entry.postIds();
+        int index = Arrays.binarySearch(liked, event.postId());
+        if (event.liked() && index < 0) {
+            entries.put(event.userId(), new Entry(inserted(liked, -index - 1, event.postId()), entry.loadedAt()));
+        } else if (!event.liked() && index >= 0) {
+            entries.put(event.userId(), new Entry(removed(liked, index), entry.loadedAt()));
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 사용자의 좋아요 게시글 ID (정렬), 캐시에 없거나 만료되었으면 DB 에서 적재
+     * - 반환한 배열은 수정하지 않음 (갱신 시 새 배열로 교체)
+     */
+    private long[] likedPostsOf(Long userId) {
+        long startGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null && nanoTime.getAsLong() - entry.loadedAt() >= ttlNanos) {
+                entries.remove(userId);
+                entry = null;
+            }
+            if (entry != null && entry.postIds() != TOO_MANY) {
+                hits.increment();
+                return entry.postIds();
+            }
+            misses.increment();
+            if (entry != null) {
+                return TOO_MANY;
+            }
+            startGeneration = nextGeneration++;
+            loadingGenerations.put(userId, startGeneration);
+        }
+
+        // DB 조회는 락 밖에서, 세대를 받은 뒤 새 트랜잭션으로 (초과 여부 확인을 위해 1개 더)
+        List<Long> postIds;
+        try {
+            postIds = loadTransaction.execute(status -> boardLikeRepository.findLikedPostIdsByUserId(
+                    userId, PageRequest.of(0, maxLikesPerUser + 1)));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loadingGenerations.remove(userId, startGeneration);
+            }
+            throw e;
+        }
+        long[] loaded;
+        if (postIds.size() > maxLikesPerUser) {
+            loaded = TOO_MANY;
+        } else {
+            loaded = postIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+
+        synchronized (this) {
+            // 적재 중에 이 사용자의 토글이 반영되었거나 더 나중에 시작한 적재가 있으면 저장하지 않음 (이번 요청에서만 사용)
+            if (loadingGenerations.remove(userId, startGeneration)) {
+                entries.put(userId, new Entry(loaded, nanoTime.getAsLong()));
+            }
+        }
+        return loaded;
+    }
+
+    private static long[] inserted(long[] source, int index, long value) {
+        long[] target = new long[source.length + 1];
+        System.arraycopy(source, 0, target, 0, index);
+        target[index] = value;
+        System.arraycopy(source, index, target, index + 1, source.length - index);
+        return target;
+    }
+
+    private static long[] removed(long[] source, int index) {
+        long[] target = new long[source.length - 1];
+        System.arraycopy(source, 0, target, 0, index);
+        System.arraycopy(source, index + 1, target, index, source.length - index - 1);
+        return target;
+    }
+
+    private record Entry(long[] postIds, long loadedAt) {
+    }
+}
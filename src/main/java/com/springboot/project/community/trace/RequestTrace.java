@@ -0,0 +1,43 @@
+package com.springboot.project.community.trace;
+
+import org.slf4j.MDC;
+
+/**
+ * 현재 요청의 추적 정보 (MDC)
+ * - traceId : 요청 trace ID (로그 패턴에 출력)
+ * - sampled : 샘플링된 요청이면 "true" (SQL 로그 등 상세 로그 출력 여부)
+ * - userId  : 인증된 사용자 ID (JwtAuthenticationFilter 에서 설정)
+ */
+public final class RequestTrace {
+
+    public static final String TRACE_ID = "traceId";
+    public static final String SAMPLED = "sampled";
+    public static final String USER_ID = "userId";
+
+    private RequestTrace() {
+    }
+
+    static void start(String traceId, boolean sampled) {
+        MDC.put(TRACE_ID, traceId);
+        if (sampled) {
+            MDC.put(SAMPLED, "true");
+        }
+    }
+
+    static void clear() {
+        MDC.remove(TRACE_ID);
+        MDC.remove(SAMPLED);
+        MDC.remove(USER_ID);
+    }
+
+    /**
+     * 현재 요청이 샘플링 대상인지 (요청 밖에서는 false)
+     */
+    public static boolean isSampled() {
+        return "true".equals(MDC.get(SAMPLED));
+    }
+
+    public static void setUserId(Long userId) {
+        MDC.put(USER_ID, String.valueOf(userId));
+    }
+}
@@ -0,0 +1,83 @@
+package com.springboot.project.community.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 추적 필터
+ *
+ * - 요청마다 trace ID 부여 (X-Request-Id 요청 헤더가 있으면 사용, 응답 헤더로 반환)
+ * - trace ID 는 MDC(traceId) 에 넣어 해당 요청의 모든 로그에 출력
+ * - sample-rate 비율의 요청만 샘플링: 요청 요약 로그 1줄 + SQL 로그 (SampledSqlLogger)
+ * - 샘플링되지 않은 요청도 slow-request-ms 보다 오래 걸리면 요약을 WARN 으로 남김
+ * - 요청당 INFO 로그를 남기지 않으므로 트래픽이 많아도 로그 비용이 요청 수에 비례하지 않음
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Request-Id";
+
+    // 외부에서 받은 trace ID 는 로그 주입을 막기 위해 형식 제한
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private final double sampleRate;
+    private final long slowRequestMs;
+
+    public RequestTraceFilter(@Value("${trace.sample-rate:0.01}") double sampleRate,
+                              @Value("${trace.slow-request-ms:1000}") long slowRequestMs) {
+        this.sampleRate = sampleRate;
+        this.slowRequestMs = slowRequestMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String traceId = traceIdOf(request);
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        RequestTrace.start(traceId, sampled);
+        response.setHeader(TRACE_ID_HEADER, traceId);
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            if (sampled) {
+                log.info("요청 추적: method={}, path={}, status={}, elapsedMs={}, userId={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMs,
+                        MDC.get(RequestTrace.USER_ID));
+            } else if (elapsedMs >= slowRequestMs) {
+                log.warn("느린 요청: method={}, path={}, status={}, elapsedMs={}, userId={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMs,
+                        MDC.get(RequestTrace.USER_ID));
+            }
+            RequestTrace.clear();
+        }
+    }
+
+    private String traceIdOf(HttpServletRequest request) {
+        String header = request.getHeader(TRACE_ID_HEADER);
+        if (header != null && VALID_TRACE_ID.matcher(header).matches()) {
+            return header;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
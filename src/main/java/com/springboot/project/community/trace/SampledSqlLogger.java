@@ -0,0 +1,35 @@
+package com.springboot.project.community.trace;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * 샘플링된 요청의 SQL 로그 (p6spy 리스너)
+ *
+ * - p6spy 기본 로깅 / org.hibernate.SQL 로그는 끄고, 샘플링된 요청에서 실행된 SQL 만 남긴다.
+ * - 샘플링되지 않은 요청에서는 MDC 확인 1번 외에 비용 없음
+ * - 바인딩 값(토큰, 이메일, 비밀번호 해시 등)은 INFO 로 남기지 않음 → DEBUG 에서만 값이 채워진 SQL 출력
+ */
+@Slf4j
+@Component
+public class SampledSqlLogger extends SimpleJdbcEventListener {
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        if (!RequestTrace.isSampled()) {
+            return;
+        }
+        String error = e != null ? ", error=" + e.getMessage() : "";
+        if (log.isDebugEnabled()) {
+            log.debug("SQL: elapsedMs={}, sql={}{}",
+                    timeElapsedNanos / 1_000_000, statementInformation.getSqlWithValues(), error);
+            return;
+        }
+        log.info("SQL: elapsedMs={}, sql={}{}",
+                timeElapsedNanos / 1_000_000, statementInformation.getSql(), error);
+    }
+}
@@ -0,0 +1,65 @@
+package com.springboot.project.community.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션용 커서 인코딩/디코딩 유틸
+ * - (created_at, id) 쌍을 클라이언트가 해석할 필요 없는 불투명 토큰으로 변환
+ * - 토큰 형식: Base64URL("createdAt|id")
+ */
+public final class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtil() {
+    }
+
+    /**
+     * 커서 값 (정렬 기준 시각 + 동일 시각 정렬용 PK)
+     */
+    public record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    /**
+     * 커서 인코딩
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            return null;
+        }
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     * - 첫 페이지 요청(cursor 없음)이면 null 반환
+     * - 형식이 잘못된 커서는 IllegalArgumentException
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0 || idx == raw.length() - 1) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.parseLong(raw.substring(idx + 1));
+            if (id <= 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new Cursor(createdAt, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException, Base64 디코딩 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.springboot.project.community.controller.board;
+
+import com.springboot.project.community.config.SecurityConfig;
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.security.PublicRoutes;
+import com.springboot.project.community.security.jwt.JwtTokenProvider;
+import com.springboot.project.community.security.jwt.VerifiedTokenCache;
+import com.springboot.project.community.service.auth.AuthService;
+import com.springboot.project.community.service.board.BoardService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 목록 조회 컨트롤러 테스트 (공개 GET 에서도 토큰이 있으면 로그인 사용자로 처리)
+ * - DB 없이 보안 필터 체인 + 컨트롤러만 실행 (@WebMvcTest)
+ */
+@WebMvcTest(controllers = BoardController.class)
+@Import({SecurityConfig.class, PublicRoutes.class, JwtTokenProvider.class, VerifiedTokenCache.class,
+        BoardControllerTest.MeterRegistryConfig.class})
+class BoardControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean private BoardService boardService;
+    @MockitoBean private AuthService authService;
+
+    @Test
+    @DisplayName("목록 조회 - Bearer 토큰이 있으면 사용자 ID 로 조회해 isLiked 포함")
+    void getPosts_WithToken_MarksLiked() throws Exception {
+        // 1. Given
+        String token = jwtTokenProvider.createAccessToken(1L, "user@test.com");
+        when(boardService.getBoardList(0, 10, 1L)).thenReturn(new PageImpl<>(List.of(
+                BoardListRes.builder().id(10L).title("제목").isLiked(true).build())));
+
+        // 2. When & 3. Then
+        mockMvc.perform(get("/api/boards").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(10))
+                .andExpect(jsonPath("$.content[0].isLiked").value(true));
+        verify(boardService).getBoardList(0, 10, 1L);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 토큰이 없으면 비로그인으로 조회 (isLiked 없음)")
+    void getPosts_WithoutToken_Anonymous() throws Exception {
+        // 1. Given
+        when(boardService.getBoardList(0, 10, null)).thenReturn(new PageImpl<>(List.of(
+                BoardListRes.builder().id(10L).title("제목").build())));
+
+        // 2. When & 3. Then
+        mockMvc.perform(get("/api/boards"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(10))
+                .andExpect(jsonPath("$.content[0].isLiked").doesNotExist());
+        verify(boardService).getBoardList(0, 10, null);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 잘못된 토큰은 비로그인으로 처리 (공개 경로이므로 401 아님)")
+    void getPosts_InvalidToken_Anonymous() throws Exception {
+        // 1. Given
+        when(boardService.getBoardList(0, 10, null)).thenReturn(new PageImpl<>(List.of()));
+
+        // 2. When & 3. Then
+        mockMvc.perform(get("/api/boards").header("Authorization", "Bearer invalid.token.value"))
+                .andExpect(status().isOk());
+        verify(boardService).getBoardList(0, 10, null);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
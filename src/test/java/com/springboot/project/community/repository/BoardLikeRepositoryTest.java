@@ -0,0 +1,78 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.config.JpaConfig;
+import com.springboot.project.community.config.QuerydslConfig;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardLike;
+import com.springboot.project.community.entity.BoardLikeId;
+import com.springboot.project.community.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.springboot.project.community.support.TestFixtures.board;
+import static com.springboot.project.community.support.TestFixtures.persist;
+import static com.springboot.project.community.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 여부 일괄 조회 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QuerydslConfig.class})
+class BoardLikeRepositoryTest {
+
+    @Autowired private BoardLikeRepository boardLikeRepository;
+    @Autowired private EntityManager em;
+
+    @Test
+    @DisplayName("좋아요 게시글 일괄 조회 - 취소한 좋아요 / 다른 사용자의 좋아요 제외, 쿼리 1회")
+    void findLikedPostIds_SingleStatement() {
+        // 1. Given - 게시글 5개, me 는 1/3 좋아요 + 2 좋아요 취소, other 는 4 좋아요
+        User me = persist(em, user(1));
+        User other = persist(em, user(2));
+        List<Board> boards = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            boards.add(persist(em, board(other)));
+        }
+        persistLike(me, boards.get(0), false);
+        persistLike(me, boards.get(1), true);
+        persistLike(me, boards.get(2), false);
+        persistLike(other, boards.get(3), false);
+        em.flush();
+        em.clear();
+
+        List<Long> postIds = boards.stream().map(Board::getPostId).toList();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // 2. When
+        statistics.clear();
+        Set<Long> liked = boardLikeRepository.findLikedPostIds(me.getUserId(), postIds);
+
+        // 3. Then
+        assertThat(liked).containsExactlyInAnyOrder(postIds.get(0), postIds.get(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void persistLike(User user, Board board, boolean deleted) {
+        BoardLike like = new BoardLike();
+        like.setLikeId(new BoardLikeId(user.getUserId(), board.getPostId()));
+        like.setUser(user);
+        like.setBoard(board);
+        like.setDeleted(deleted);
+        em.persist(like);
+    }
+}
@@ -0,0 +1,273 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.config.JpaConfig;
+import com.springboot.project.community.config.QuerydslConfig;
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardImage;
+import com.springboot.project.community.entity.BoardStats;
+import com.springboot.project.community.entity.ImageFile;
+import com.springboot.project.community.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.springboot.project.community.support.TestFixtures.board;
+import static com.springboot.project.community.support.TestFixtures.persist;
+import static com.springboot.project.community.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 게시글 목록 조회 쿼리 수 회귀 테스트
+ * - 목록 조회가 게시글 수와 무관하게 고정된 쿼리 수로 실행되는지 검증 (작성자 N+1 방지)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QuerydslConfig.class})
+class BoardRepositoryTest {
+
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 작성자가 모두 달라도 목록 쿼리 + COUNT 쿼리 2회만 실행")
+    void findBoardList_FixedStatementCount() {
+        // 1. Given - 작성자가 서로 다른 게시글 20개
+        savePosts(20);
+
+        // 2. When
+        statistics.clear();
+        Page<BoardListRes> page = boardRepository.findBoardList(PageRequest.of(0, 10));
+        // 응답 직렬화 시 접근하는 필드를 모두 읽어 지연 로딩이 없는지 확인
+        page.getContent().forEach(res -> {
+            res.getAuthor();
+            res.getAuthorImage();
+            res.getLikes();
+        });
+
+        // 3. Then
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 전체 개수를 전달하면 COUNT 없이 쿼리 1회, Slice 도 쿼리 1회")
+    void findBoardList_WithoutCountQuery() {
+        // 1. Given
+        savePosts(15);
+
+        // 2. When
+        statistics.clear();
+        Page<BoardListRes> page = boardRepository.findBoardList(PageRequest.of(0, 10), () -> 15L);
+        long pageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Slice<BoardListRes> first = boardRepository.findBoardSlice(PageRequest.of(0, 10));
+        Slice<BoardListRes> last = boardRepository.findBoardSlice(PageRequest.of(1, 10));
+        long sliceStatements = statistics.getPrepareStatementCount();
+
+        // 3. Then
+        assertThat(page.getTotalElements()).isEqualTo(15);
+        assertThat(pageStatements).isEqualTo(1);
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(5);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(sliceStatements).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 페이지 크기와 무관하게 쿼리 1회만 실행")
+    void findBoardListByCursor_SingleStatement() {
+        // 1. Given
+        savePosts(30);
+
+        // 2. When
+        statistics.clear();
+        List<BoardListRes> small = boardRepository.findBoardListByCursor(null, null, 5);
+        long smallCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<BoardListRes> large = boardRepository.findBoardListByCursor(null, null, 25);
+        long largeCount = statistics.getPrepareStatementCount();
+
+        // 3. Then
+        assertThat(small).hasSize(5);
+        assertThat(large).hasSize(25);
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 작성자/미리보기/통계 값이 프로젝션에 채워지고, 통계가 없으면 0")
+    void findBoardList_ProjectionValues() {
+        // 1. Given
+        User author = persist(em, user(1));
+        Board withStats = persist(em, board(author, "통계 있음"));
+        em.persist(BoardStats.builder()
+                .board(withStats)
+                .likeCount(3L)
+                .commentCount(2L)
+                .viewCount(7L)
+                .build());
+        persist(em, board(author, "통계 없음"));
+        em.flush();
+        em.clear();
+
+        // 2. When
+        List<BoardListRes> result = boardRepository.findBoardList(PageRequest.of(0, 10)).getContent();
+
+        // 3. Then
+        BoardListRes stats = result.stream().filter(r -> r.getTitle().equals("통계 있음")).findFirst().orElseThrow();
+        BoardListRes noStats = result.stream().filter(r -> r.getTitle().equals("통계 없음")).findFirst().orElseThrow();
+
+        assertThat(stats.getAuthor()).isEqualTo("작성자1");
+        assertThat(stats.getContents()).isEqualTo("내용"); // 미리보기 컬럼
+        assertThat(stats.getLikes()).isEqualTo(3L);
+        assertThat(stats.getComments()).isEqualTo(2L);
+        assertThat(stats.getViews()).isEqualTo(7L);
+        assertThat(noStats.getLikes()).isZero();
+        assertThat(noStats.getViews()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 작성자 이미지/대표 이미지는 썸네일 우선, 썸네일이 없으면 원본")
+    void findBoardList_Thumbnails() {
+        // 1. Given
+        User author = persist(em, user(1));
+        author.setImage("/api/images/profile.png");
+        em.persist(ImageFile.builder().url("/api/images/profile.png").thumbnailUrl("/api/images/profile-thumb.png").build());
+
+        Board withThumbnail = persist(em, board(author, "썸네일 있음"));
+        em.persist(BoardImage.builder().board(withThumbnail).user(author)
+                .imageUrl("second.png").sortOrder(1).build());
+        em.persist(BoardImage.builder().board(withThumbnail).user(author)
+                .imageUrl("first.png").thumbnailUrl("first-thumb.png").sortOrder(0).build());
+        Board withoutThumbnail = persist(em, board(author, "썸네일 없음"));
+        em.persist(BoardImage.builder().board(withoutThumbnail).user(author)
+                .imageUrl("original.png").sortOrder(0).build());
+        persist(em, board(author, "이미지 없음"));
+        em.flush();
+        em.clear();
+
+        // 2. When
+        List<BoardListRes> result = boardRepository.findBoardList(PageRequest.of(0, 10)).getContent();
+
+        // 3. Then
+        assertThat(result).hasSize(3);
+        assertThat(result).allSatisfy(res -> assertThat(res.getAuthorImage()).isEqualTo("/api/images/profile-thumb.png"));
+        assertThat(result).extracting(BoardListRes::getTitle, BoardListRes::getThumbnail)
+                .containsExactlyInAnyOrder(
+                        tuple("썸네일 있음", "first-thumb.png"),
+                        tuple("썸네일 없음", "original.png"),
+                        tuple("이미지 없음", null));
+    }
+
+    @Test
+    @DisplayName("상세 조회 - 게시글/작성자/이미지/통계를 쿼리 1회로 조회, 이미지는 sort_order 순")
+    void findDetailById_SingleStatement() {
+        // 1. Given
+        User author = persist(em, user(1));
+        Board board = persist(em, board(author, "상세"));
+        em.persist(BoardImage.builder().board(board).user(author).imageUrl("b.png").sortOrder(1).build());
+        em.persist(BoardImage.builder().board(board).user(author).imageUrl("a.png").sortOrder(0).build());
+        em.persist(BoardStats.builder().board(board).viewCount(5L).build());
+        em.flush();
+        em.clear();
+
+        // 2. When
+        statistics.clear();
+        BoardRepositoryCustom.BoardDetail detail = boardRepository.findDetailById(board.getPostId()).orElseThrow();
+        String nickname = detail.board().getAuthor().getNickname();
+        List<String> imageUrls = detail.board().getImages().stream().map(BoardImage::getImageUrl).toList();
+
+        // 3. Then
+        assertThat(nickname).isEqualTo("작성자1");
+        assertThat(imageUrls).containsExactly("a.png", "b.png");
+        assertThat(detail.stats().getViewCount()).isEqualTo(5L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 작성 시각이 같은 게시글도 (created_at, post_id) 로 이어서 조회, 중복/누락 없음")
+    void findBoardListByCursor_SeeksAcrossEqualTimestamps() {
+        // 1. Given - 5개 중 3개는 작성 시각이 같음 (페이지 경계가 같은 시각 안에 걸리도록)
+        User author = persist(em, user(1));
+        List<Board> boards = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            boards.add(persist(em, board(author, "제목" + i)));
+        }
+        em.flush();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        setCreatedAt(boards.get(0), base.minusMinutes(1));
+        setCreatedAt(boards.get(1), base);
+        setCreatedAt(boards.get(2), base);
+        setCreatedAt(boards.get(3), base);
+        setCreatedAt(boards.get(4), base.plusMinutes(1));
+        em.clear();
+
+        // 2. When - 2개씩 커서로 이어서 조회
+        List<Long> seen = new ArrayList<>();
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorPostId = null;
+        for (int page = 0; page < 3; page++) {
+            List<BoardListRes> rows = boardRepository.findBoardListByCursor(cursorCreatedAt, cursorPostId, 2);
+            rows.forEach(row -> seen.add(row.getId()));
+            BoardListRes last = rows.get(rows.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorPostId = last.getId();
+        }
+
+        // 3. Then - created_at DESC, 같은 시각은 post_id DESC
+        assertThat(seen).containsExactly(
+                boards.get(4).getPostId(),
+                boards.get(3).getPostId(),
+                boards.get(2).getPostId(),
+                boards.get(1).getPostId(),
+                boards.get(0).getPostId());
+        assertThat(boardRepository.findBoardListByCursor(cursorCreatedAt, cursorPostId, 2)).isEmpty();
+    }
+
+    private void setCreatedAt(Board board, LocalDateTime createdAt) {
+        // created_at 은 auditing 으로 채워지므로 직접 변경
+        em.createQuery("UPDATE Board b SET b.createdAt = :createdAt WHERE b.postId = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", board.getPostId())
+                .executeUpdate();
+    }
+
+    private void savePosts(int count) {
+        for (int i = 1; i <= count; i++) {
+            User author = persist(em, user(i));
+            Board board = persist(em, board(author, "제목" + i));
+            em.persist(BoardStats.builder().board(board).build());
+        }
+        em.flush();
+        em.clear();
+    }
+}
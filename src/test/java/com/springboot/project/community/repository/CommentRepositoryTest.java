@@ -0,0 +1,114 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.config.JpaConfig;
+import com.springboot.project.community.config.QuerydslConfig;
+import com.springboot.project.community.dto.comment.CommentRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.Comment;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.springboot.project.community.support.TestFixtures.board;
+import static com.springboot.project.community.support.TestFixtures.persist;
+import static com.springboot.project.community.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 목록 조회 쿼리 수 회귀 테스트
+ * - 댓글 페이지 크기와 무관하게 쿼리 1회로 작성자 정보까지 조회되는지 검증 (작성자 N+1 방지)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QuerydslConfig.class})
+class CommentRepositoryTest {
+
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("댓글 조회 - 작성자가 모두 달라도 페이지 크기와 무관하게 쿼리 1회만 실행")
+    void findCommentsByCursor_SingleStatement() {
+        // 1. Given - 작성자가 서로 다른 댓글 40개
+        Board board = saveComments(40);
+
+        // 2. When
+        statistics.clear();
+        List<CommentRes> small = commentRepository.findCommentsByCursor(board.getPostId(), null, null, 5);
+        long smallCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<CommentRes> large = commentRepository.findCommentsByCursor(board.getPostId(), null, null, 40);
+        large.forEach(res -> {
+            res.getAuthor();
+            res.getAuthorImage();
+        });
+        long largeCount = statistics.getPrepareStatementCount();
+
+        // 3. Then
+        assertThat(small).hasSize(5);
+        assertThat(large).hasSize(40);
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 조회 - 작성자/게시글 정보가 프로젝션에 채워지고, 커서로 이어서 조회하면 중복/누락 없음")
+    void findCommentsByCursor_ProjectionAndContinuation() {
+        // 1. Given
+        Board board = saveComments(7);
+
+        // 2. When - 3개씩 끝까지 조회
+        List<CommentRes> all = new ArrayList<>();
+        List<CommentRes> page = commentRepository.findCommentsByCursor(board.getPostId(), null, null, 3);
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            CommentRes last = page.get(page.size() - 1);
+            page = commentRepository.findCommentsByCursor(
+                    board.getPostId(), last.getCreatedAt(), last.getCommentId(), 3);
+        }
+
+        // 3. Then
+        assertThat(all).extracting(CommentRes::getContent)
+                .containsExactly("댓글1", "댓글2", "댓글3", "댓글4", "댓글5", "댓글6", "댓글7");
+        CommentRes first = all.get(0);
+        assertThat(first.getPostId()).isEqualTo(board.getPostId());
+        assertThat(first.getUserId()).isNotNull();
+        assertThat(first.getAuthor()).isEqualTo("작성자1");
+        assertThat(first.getAuthorImage()).isEqualTo("profile1.png");
+    }
+
+    private Board saveComments(int count) {
+        Board board = persist(em, board(persist(em, user(0))));
+
+        for (int i = 1; i <= count; i++) {
+            em.persist(Comment.builder()
+                    .board(board)
+                    .author(persist(em, user(i)))
+                    .contents("댓글" + i)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        return board;
+    }
+}
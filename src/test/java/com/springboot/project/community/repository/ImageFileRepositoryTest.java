@@ -0,0 +1,97 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.config.JpaConfig;
+import com.springboot.project.community.config.QuerydslConfig;
+import com.springboot.project.community.entity.ImageFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 등록 upsert 테스트
+ * - 동시 등록을 검증하므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리 (전용 DB 사용)
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:image-file;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QuerydslConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImageFileRepositoryTest {
+
+    private static final String URL = "/api/images/same.png";
+
+    @Autowired private ImageFileRepository imageFileRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        imageFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("upsert - 같은 URL 동시 등록도 중복 키 오류 없이 행 1개, ref_count 는 등록 횟수")
+    void upsertRef_ConcurrentSameUrl() throws Exception {
+        // 1. Given
+        int threads = 16;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // 2. When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return tx.execute(status -> imageFileRepository.upsertRef(URL));
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // 3. Then
+        List<ImageFile> files = imageFileRepository.findAll();
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getRefCount()).isEqualTo(threads);
+        assertThat(files.get(0).getIsActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("upsert - 삭제 대기 중인 이미지를 다시 등록하면 활성화")
+    void upsertRef_ReactivatesPendingDelete() {
+        // 1. Given
+        ImageFile file = imageFileRepository.save(ImageFile.builder()
+                .url(URL).refCount(0).isActive(false).deletedAt(LocalDateTime.now()).build());
+
+        // 2. When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> imageFileRepository.upsertRef(URL));
+
+        // 3. Then
+        ImageFile reloaded = imageFileRepository.findById(file.getImageId()).orElseThrow();
+        assertThat(reloaded.getRefCount()).isEqualTo(1);
+        assertThat(reloaded.getIsActive()).isTrue();
+        assertThat(reloaded.getDeletedAt()).isNull();
+        assertThat(imageFileRepository.findThumbnailUrlByUrl(URL)).isEmpty();
+    }
+}
@@ -0,0 +1,193 @@
+package com.springboot.project.community.security;
+
+import com.springboot.project.community.config.SecurityConfig;
+import com.springboot.project.community.controller.like.LikeController;
+import com.springboot.project.community.dto.like.LikeToggleRes;
+import com.springboot.project.community.security.jwt.JwtTokenProvider;
+import com.springboot.project.community.security.jwt.VerifiedTokenCache;
+import com.springboot.project.community.service.auth.AuthService;
+import com.springboot.project.community.service.like.LikeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증 모드 부하 비교 (세션 모드 vs stateless 모드)
+ *
+ * - 인증이 필요한 API(좋아요 토글)를 같은 횟수만큼 호출하고
+ *   요청당 세션 저장소 조회 수(세션 속성 읽기)와 처리량을 로그로 비교한다.
+ * - 기본 테스트는 몇 번만 호출해 세션 조회 여부만 확인하고,
+ *   처리량 측정(수천 번 호출)은 @Tag("load") 로 분리 (gradle loadTest 로 실행, 기본 test 에서는 제외)
+ * - 세션 모드 클라이언트는 로그인 시 받은 세션 쿠키 + JWT, stateless 모드 클라이언트는 JWT 만 보낸다.
+ * - 세션 저장소가 Redis 등 외부 저장소이면 세션 속성 읽기 1회 = 네트워크 왕복 1회
+ *   (여기서는 메모리 세션이므로 처리량 차이는 필터 체인 비용만 반영, 실제 절감은 왕복 수 × 지연)
+ * - DB / Redis 없이 보안 필터 체인 + 컨트롤러만 실행 (@WebMvcTest)
+ */
+class AuthModeLoadComparisonTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthModeLoadComparisonTest.class);
+    private static final int REQUESTS = 5;
+    private static final int LOAD_WARMUP = 500;
+    private static final int LOAD_REQUESTS = 1_000;
+
+    @TestPropertySource(properties = "auth.stateless=false")
+    static class SessionMode extends Scenario {
+
+        @Test
+        @DisplayName("세션 모드 - 인증 요청마다 세션 저장소 조회")
+        void readsSessionOnEveryRequest() throws Exception {
+            // 1. Given - 로그인으로 만들어진 세션
+            CountingSession session = new CountingSession();
+            session.setAttribute("loginUser", "user");
+
+            // 2. When
+            Result result = run("session", session, 0, REQUESTS);
+
+            // 3. Then
+            assertThat(result.sessionReads()).isGreaterThanOrEqualTo(REQUESTS);
+        }
+
+        @Test
+        @Tag("load")
+        @DisplayName("세션 모드 - 처리량 측정")
+        void throughput() throws Exception {
+            CountingSession session = new CountingSession();
+            session.setAttribute("loginUser", "user");
+            run("session", session, LOAD_WARMUP, LOAD_REQUESTS);
+        }
+    }
+
+    @TestPropertySource(properties = "auth.stateless=true")
+    static class StatelessMode extends Scenario {
+
+        @Test
+        @DisplayName("stateless 모드 - 세션 저장소 조회 0회, 세션 생성 없음")
+        void neverTouchesSession() throws Exception {
+            // 1. Given - 세션 없음 (JWT 만)
+            // 2. When
+            Result result = run("stateless", null, 0, REQUESTS);
+
+            // 3. Then
+            assertThat(result.sessionReads()).isZero();
+            assertThat(result.sessionsCreated()).isZero();
+        }
+
+        @Test
+        @Tag("load")
+        @DisplayName("stateless 모드 - 처리량 측정")
+        void throughput() throws Exception {
+            run("stateless", null, LOAD_WARMUP, LOAD_REQUESTS);
+        }
+    }
+
+    @WebMvcTest(controllers = LikeController.class)
+    @AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+    @Import({SecurityConfig.class, PublicRoutes.class, JwtTokenProvider.class, VerifiedTokenCache.class,
+            AuthModeLoadComparisonTest.MeterRegistryConfig.class})
+    abstract static class Scenario {
+
+        @Autowired private MockMvc mockMvc;
+        @Autowired private JwtTokenProvider jwtTokenProvider;
+
+        @MockitoBean private LikeService likeService;
+        @MockitoBean private AuthService authService;
+
+        @BeforeEach
+        void setUp() {
+            when(likeService.toggle(anyLong(), anyLong())).thenReturn(LikeToggleRes.builder()
+                    .postId(1L)
+                    .liked(true)
+                    .likeCount(1L)
+                    .build());
+        }
+
+        Result run(String mode, CountingSession session, int warmup, int requests) throws Exception {
+            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com");
+
+            // 워밍업 (필터 체인 / 컨트롤러 초기화)
+            for (int i = 0; i < warmup; i++) {
+                toggle(token, session);
+            }
+
+            // 측정
+            long readsBefore = session != null ? session.reads.get() : 0;
+            long sessionsCreated = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                MvcResult result = toggle(token, session);
+                if (session == null && result.getRequest().getSession(false) != null) {
+                    sessionsCreated++;
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            long sessionReads = session != null ? session.reads.get() - readsBefore : 0;
+            log.info("[{}] requests={}, elapsed={}ms, throughput={}/s, session reads/request={}, sessions created={}",
+                    mode, requests, elapsedNanos / 1_000_000,
+                    requests * 1_000_000_000L / elapsedNanos,
+                    (double) sessionReads / requests, sessionsCreated);
+            return new Result(sessionReads, sessionsCreated);
+        }
+
+        private MvcResult toggle(String token, MockHttpSession session) throws Exception {
+            MockHttpServletRequestBuilder request = post("/api/boards/1/likes")
+                    .header("Authorization", "Bearer " + token);
+            if (session != null) {
+                request.session(session);
+            }
+            return mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+        }
+    }
+
+    record Result(long sessionReads, long sessionsCreated) {
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    /**
+     * 속성 읽기 횟수를 세는 세션 (세션 저장소 조회 대용)
+     */
+    static class CountingSession extends MockHttpSession {
+        private final AtomicLong reads = new AtomicLong();
+
+        @Override
+        public Object getAttribute(String name) {
+            reads.incrementAndGet();
+            return super.getAttribute(name);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.springboot.project.community.security;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 경로 테스트
+ */
+class PublicRoutesTest {
+
+    private final PublicRoutes publicRoutes = new PublicRoutes();
+
+    @Test
+    @DisplayName("인증 API / 정적 리소스 / 에러 페이지는 메서드와 무관하게 공개")
+    void anyMethodRoutes() {
+        assertThat(isPublic("POST", "/api/auth/login")).isTrue();
+        assertThat(isPublic("GET", "/api/auth/check-email")).isTrue();
+        assertThat(isPublic("GET", "/")).isTrue();
+        assertThat(isPublic("GET", "/css/app/main.css")).isTrue();
+        assertThat(isPublic("GET", "/error")).isTrue();
+
+        assertThat(isPublic("GET", "/api/auth/me")).isFalse();
+        assertThat(isPublic("POST", "/api/auth/logout")).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시판 / 댓글 / 이미지 조회는 GET 만 공개")
+    void getOnlyRoutes() {
+        assertThat(isPublic("GET", "/api/boards")).isTrue();
+        assertThat(isPublic("GET", "/api/boards/cursor")).isTrue();
+        assertThat(isPublic("GET", "/api/boards/12")).isTrue();
+        assertThat(isPublic("GET", "/api/boards/12/comments")).isTrue();
+        assertThat(isPublic("GET", "/api/images/abc.png")).isTrue();
+
+        assertThat(isPublic("POST", "/api/boards")).isFalse();
+        assertThat(isPublic("DELETE", "/api/boards/12")).isFalse();
+        assertThat(isPublic("POST", "/api/boards/12/likes")).isFalse();
+        assertThat(isPublic("POST", "/api/images")).isFalse();
+        assertThat(isPublic("GET", "/api/images/a/b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("컨텍스트 경로를 제외한 경로로 매칭")
+    void matchesWithinContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/community/api/boards/cursor");
+        request.setContextPath("/community");
+
+        assertThat(publicRoutes.isPublic(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 속성에 파싱한 경로를 남기지 않음 → 같은 요청의 ERROR 디스패치는 /error 로 매칭")
+    void leavesRequestAttributesUntouched() {
+        // 1. Given - 보호된 경로 요청
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/boards");
+        assertThat(publicRoutes.isPublic(request)).isFalse();
+        assertThat(ServletRequestPathUtils.hasParsedRequestPath(request)).isFalse();
+
+        // 2. When - 같은 요청 객체로 에러 페이지 디스패치
+        request.setDispatcherType(DispatcherType.ERROR);
+        request.setRequestURI("/error");
+
+        // 3. Then
+        assertThat(publicRoutes.isPublic(request)).isTrue();
+        assertThat(ServletRequestPathUtils.hasParsedRequestPath(request)).isFalse();
+    }
+
+    private boolean isPublic(String method, String path) {
+        return publicRoutes.isPublic(new MockHttpServletRequest(method, path));
+    }
+}
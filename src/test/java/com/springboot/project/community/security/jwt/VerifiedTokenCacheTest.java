@@ -0,0 +1,109 @@
+package com.springboot.project.community.security.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 검증된 JWT 캐시 테스트 (재사용 / 만료 / 로그아웃 / 용량 / 메트릭)
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "m0R4q7Y2Q4sH9p2P0s1tH3bD9vM7qP1kA4vL0nM8qQ0rC5yX3fS9eW==";
+
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private JwtTokenProvider provider;
+    private MeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        provider = spy(new JwtTokenProvider(SECRET, 900_000L, 604_800_000L));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(provider, meterRegistry, 2, now::get);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 서명 검증, 이후 캐시 사용")
+    void verify_ReusesVerifiedToken() {
+        // 1. Given
+        String token = provider.createAccessToken(1L, "user@test.com");
+
+        // 2. When
+        VerifiedToken first = cache.verify(token).orElseThrow();
+        VerifiedToken second = cache.verify(token).orElseThrow();
+
+        // 3. Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.userId()).isEqualTo(1L);
+        assertThat(second.isAccessToken()).isTrue();
+        verify(provider, times(1)).verify(token);
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시에서 꺼내지 않음")
+    void verify_EvictsAtExpiry() {
+        // 1. Given
+        String token = provider.createAccessToken(1L, "user@test.com");
+        VerifiedToken verified = cache.verify(token).orElseThrow();
+
+        // 2. When - 만료 시각 도달
+        now.set(verified.expiresAt().toEpochMilli());
+        cache.purgeExpired();
+
+        // 3. Then
+        assertThat(cache.size()).isZero();
+        cache.verify(token);
+        verify(provider, times(2)).verify(token);
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 해당 사용자의 항목만 제거")
+    void revokeUser_RemovesUserEntries() {
+        // 1. Given
+        String user1 = provider.createAccessToken(1L, "user1@test.com");
+        String user2 = provider.createAccessToken(2L, "user2@test.com");
+        cache.verify(user1);
+        cache.verify(user2);
+
+        // 2. When
+        cache.revokeUser(1L);
+
+        // 3. Then
+        assertThat(cache.size()).isEqualTo(1);
+        cache.verify(user2);
+        verify(provider, times(1)).verify(user2);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 캐시하지 않고, 최대 개수를 넘으면 LRU 제거")
+    void verify_InvalidNotCachedAndBounded() {
+        // 1. Given
+        String invalid = provider.createAccessToken(9L, "x@test.com") + "x";
+
+        // 2. When
+        assertThat(cache.verify(invalid)).isEmpty();
+        for (long userId = 1; userId <= 3; userId++) {
+            cache.verify(provider.createAccessToken(userId, "user" + userId + "@test.com"));
+        }
+
+        // 3. Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("jwt.cache.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("jwt.cache.gets").tag("result", result).counter().count();
+    }
+}
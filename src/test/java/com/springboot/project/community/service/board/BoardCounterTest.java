@@ -0,0 +1,60 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 전체 게시글 수 카운터 테스트
+ */
+class BoardCounterTest {
+
+    private BoardRepository boardRepository;
+    private BoardCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        counter = new BoardCounter(boardRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("첫 조회만 COUNT(*), 이후 작성/삭제 이벤트로 증감")
+    void get_CountsOnceThenTracksEvents() {
+        // 1. Given
+        when(boardRepository.count()).thenReturn(10L);
+
+        // 2. When
+        long initial = counter.get();
+        counter.onBoardCreated(new BoardCreatedEvent(null));
+        counter.onBoardCreated(new BoardCreatedEvent(null));
+        counter.onBoardDeleted(new BoardDeletedEvent(1L));
+
+        // 3. Then
+        assertThat(initial).isEqualTo(10L);
+        assertThat(counter.get()).isEqualTo(11L);
+        verify(boardRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("주기 보정 - 실제 게시글 수로 맞춤, 초기화 전이면 조회하지 않음")
+    void reconcile_ResetsToActualCount() {
+        // 1. 초기화 전
+        counter.onBoardCreated(new BoardCreatedEvent(null));
+        counter.reconcile();
+        verify(boardRepository, never()).count();
+
+        // 2. 다른 인스턴스에서 게시글이 작성되어 어긋난 경우
+        when(boardRepository.count()).thenReturn(5L, 8L);
+        counter.get();
+        counter.reconcile();
+
+        // 3. Then
+        assertThat(counter.get()).isEqualTo(8L);
+    }
+}
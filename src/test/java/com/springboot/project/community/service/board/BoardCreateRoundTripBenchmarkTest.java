@@ -0,0 +1,177 @@
+package com.springboot.project.community.service.board;
+
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import com.springboot.project.community.config.JpaConfig;
+import com.springboot.project.community.config.QuerydslConfig;
+import com.springboot.project.community.dto.board.PostCreateReq;
+import com.springboot.project.community.dto.board.PostRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardImage;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.BoardImageBatchWriter;
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.service.comment.CommentService;
+import com.springboot.project.community.service.like.LikedPostCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.springboot.project.community.support.TestFixtures.board;
+import static com.springboot.project.community.support.TestFixtures.persist;
+import static com.springboot.project.community.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 작성 DB 왕복 횟수 벤치마크
+ * - p6spy 리스너로 PreparedStatement 실행 / executeBatch 호출 수를 센다 (배치 1회 = 왕복 1회)
+ * - 이미지 5장 게시글 기준으로 기존 방식(JPA saveAll)과 JDBC 배치 방식을 비교
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QuerydslConfig.class, BoardService.class, BoardImageBatchWriter.class,
+        BoardCreateRoundTripBenchmarkTest.RoundTripCounterConfig.class})
+class BoardCreateRoundTripBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardCreateRoundTripBenchmarkTest.class);
+    private static final int IMAGE_COUNT = 5;
+
+    @Autowired private BoardService boardService;
+    @Autowired private BoardImageRepository boardImageRepository;
+    @Autowired private BoardImageBatchWriter boardImageBatchWriter;
+    @Autowired private RoundTripCounter roundTrips;
+    @Autowired private EntityManager em;
+
+    @MockitoBean private BoardStatsBuffer statsBuffer;
+    @MockitoBean private PostDetailCache postDetailCache;
+    @MockitoBean private BoardListHeadCache boardListHeadCache;
+    @MockitoBean private BoardCounter boardCounter;
+    @MockitoBean private LikedPostCache likedPostCache;
+    @MockitoBean private CommentService commentService;
+
+    @Test
+    @DisplayName("이미지 저장 - JPA saveAll 은 이미지 수만큼, JDBC 배치는 1회 왕복")
+    void imageInsert_BatchedIntoSingleRoundTrip() {
+        // 1. Given
+        User author = persist(em, user(1));
+        Board board = persist(em, board(author));
+        em.flush();
+
+        // 2. When - 기존 방식 (IDENTITY → 행마다 INSERT)
+        List<BoardImage> entities = new ArrayList<>();
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            entities.add(BoardImage.builder().board(board).user(author).imageUrl("before" + i + ".png").sortOrder(i).build());
+        }
+        roundTrips.reset();
+        boardImageRepository.saveAll(entities);
+        em.flush();
+        int before = roundTrips.get();
+
+        // 2. When - JDBC 배치
+        List<BoardImageBatchWriter.NewImage> images = new ArrayList<>();
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            images.add(new BoardImageBatchWriter.NewImage("after" + i + ".png", null, i));
+        }
+        roundTrips.reset();
+        boardImageBatchWriter.insertAll(board.getPostId(), author.getUserId(), images);
+        int after = roundTrips.get();
+
+        // 3. Then
+        log.info("[benchmark] 이미지 {}장 INSERT 왕복 횟수: before={}, after={}", IMAGE_COUNT, before, after);
+        assertThat(before).isEqualTo(IMAGE_COUNT);
+        assertThat(after).isEqualTo(1);
+        assertThat(boardImageRepository.findByBoard_PostIdOrderBySortOrderAsc(board.getPostId()))
+                .hasSize(IMAGE_COUNT * 2);
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - 이미지 수와 무관하게 고정 왕복 (사용자 조회, 게시글, 통계, 썸네일 조회, 이미지 배치)")
+    void create_FixedRoundTrips() {
+        // 1. Given
+        User author = persist(em, user(1));
+        em.flush();
+        em.clear();
+
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            imageUrls.add("image" + i + ".png");
+        }
+        PostCreateReq req = PostCreateReq.builder().title("제목").contents("내용").imageUrls(imageUrls).build();
+
+        // 2. When
+        roundTrips.reset();
+        PostRes res = boardService.create(author.getUserId(), req);
+        em.flush();
+        int count = roundTrips.get();
+
+        // 3. Then
+        // 기존: 사용자 조회 + 게시글 + 통계 생성 + 썸네일 조회 + 이미지 5회 + 통계 재조회 = 10
+        log.info("[benchmark] 이미지 {}장 게시글 작성 왕복 횟수: {} (기존 10)", IMAGE_COUNT, count);
+        assertThat(count).isEqualTo(5);
+        assertThat(res.getImageUrls()).containsExactlyElementsOf(imageUrls);
+        assertThat(boardImageRepository.findByBoard_PostIdOrderBySortOrderAsc(res.getPostId()))
+                .extracting(BoardImage::getImageUrl)
+                .containsExactlyElementsOf(imageUrls);
+    }
+
+    /**
+     * JDBC 왕복 횟수 카운터 (p6spy 리스너 빈으로 등록)
+     */
+    static class RoundTripCounter extends JdbcEventListener {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void onAfterExecute(PreparedStatementInformation info, long timeElapsedNanos, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void onAfterExecuteUpdate(PreparedStatementInformation info, long timeElapsedNanos, int rowCount, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void onAfterExecuteQuery(PreparedStatementInformation info, long timeElapsedNanos, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void onAfterExecuteBatch(StatementInformation info, long timeElapsedNanos, int[] updateCounts, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        void reset() {
+            count.set(0);
+        }
+
+        int get() {
+            return count.get();
+        }
+    }
+
+    @TestConfiguration
+    static class RoundTripCounterConfig {
+        @Bean
+        RoundTripCounter roundTripCounter() {
+            return new RoundTripCounter();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.entity.BoardImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 이미지 변경분 계산 테스트
+ */
+class BoardImageDiffTest {
+
+    private final List<BoardImage> existing = List.of(
+            image(1, "a.png", 0),
+            image(2, "b.png", 1),
+            image(3, "c.png", 2));
+
+    @Test
+    @DisplayName("변경 없음 - 추가/삭제/순서 변경 모두 없음")
+    void unchanged_IsEmpty() {
+        BoardImageDiff diff = BoardImageDiff.of(existing, List.of("a.png", "b.png", "c.png"));
+
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("순서만 변경 - 위치가 바뀐 행만 sort_order 변경")
+    void reordered_OnlyMovedRows() {
+        BoardImageDiff diff = BoardImageDiff.of(existing, List.of("a.png", "c.png", "b.png"));
+
+        assertThat(diff.added()).isEmpty();
+        assertThat(diff.removedIds()).isEmpty();
+        assertThat(diff.reordered()).containsExactlyInAnyOrder(
+                new BoardImageDiff.Reordered(3, 1),
+                new BoardImageDiff.Reordered(2, 2));
+    }
+
+    @Test
+    @DisplayName("추가/삭제 - 빠진 URL 은 삭제, 새 URL 만 추가")
+    void addedAndRemoved() {
+        BoardImageDiff diff = BoardImageDiff.of(existing, List.of("a.png", "d.png", "c.png"));
+
+        assertThat(diff.added()).containsExactly(new BoardImageDiff.Added("d.png", 1));
+        assertThat(diff.removedIds()).containsExactly(2);
+        assertThat(diff.reordered()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 URL 중복 - 기존 행은 한 번만 재사용, 목록이 비면 전부 삭제")
+    void duplicatesAndClear() {
+        BoardImageDiff duplicated = BoardImageDiff.of(existing, List.of("a.png", "a.png", "b.png", "c.png"));
+        BoardImageDiff cleared = BoardImageDiff.of(existing, null);
+
+        assertThat(duplicated.added()).containsExactly(new BoardImageDiff.Added("a.png", 1));
+        assertThat(duplicated.reordered()).containsExactlyInAnyOrder(
+                new BoardImageDiff.Reordered(2, 2),
+                new BoardImageDiff.Reordered(3, 3));
+        assertThat(cleared.removedIds()).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    private static BoardImage image(int imageId, String url, int sortOrder) {
+        return BoardImage.builder().imageId(imageId).imageUrl(url).sortOrder(sortOrder).build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * 최신 게시글 목록 캐시 테스트
+ */
+class BoardListHeadCacheTest {
+
+    private static final int CAPACITY = 5;
+
+    private BoardRepository boardRepository;
+    private BoardCounter boardCounter;
+    private BoardListHeadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        boardCounter = mock(BoardCounter.class);
+        cache = new BoardListHeadCache(boardRepository, boardCounter, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), CAPACITY, 60_000);
+
+        // 게시글 5..1 (최신순), 전체 20개
+        List<BoardListRes> newest = new ArrayList<>();
+        for (long id = 5; id >= 1; id--) {
+            newest.add(board(id));
+        }
+        when(boardRepository.findBoardListByCursor(isNull(), isNull(), anyInt())).thenReturn(newest);
+        when(boardCounter.get()).thenReturn(20L);
+    }
+
+    @Test
+    @DisplayName("캐시 범위 안의 페이지는 한 번만 조회, 범위 밖은 null")
+    void get_ServesHeadFromMemory() {
+        // 1. When
+        BoardListHeadCache.Head first = cache.get(0, 3);
+        BoardListHeadCache.Head second = cache.get(3, 2);
+        BoardListHeadCache.Head outside = cache.get(3, 3);
+
+        // 2. Then
+        assertThat(first.boards()).extracting(BoardListRes::getId).containsExactly(5L, 4L, 3L);
+        assertThat(second.boards()).extracting(BoardListRes::getId).containsExactly(2L, 1L);
+        assertThat(first.total()).isEqualTo(20L);
+        assertThat(outside).isNull();
+        verify(boardRepository, times(1)).findBoardListByCursor(isNull(), isNull(), anyInt());
+        verify(boardRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - DB 조회 없이 맨 앞에 추가, 이미 있는 게시글은 건너뜀")
+    void onBoardCreated_PrependsWithoutQuery() {
+        // 1. Given
+        cache.get(0, 3);
+
+        // 2. When
+        cache.onBoardCreated(new BoardCreatedEvent(board(6L)));
+        cache.onBoardCreated(new BoardCreatedEvent(board(6L)));
+        BoardListHeadCache.Head head = cache.get(0, 5);
+
+        // 3. Then
+        assertThat(head.boards()).extracting(BoardListRes::getId).containsExactly(6L, 5L, 4L, 3L, 2L);
+        verify(boardRepository, times(1)).findBoardListByCursor(isNull(), isNull(), anyInt());
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 게시글이 변경되면 다음 요청 시 다시 조회, 없는 게시글은 무시")
+    void onBoardChanged_ReloadsOnlyWhenCached() {
+        // 1. Given
+        cache.get(0, 3);
+
+        // 2. When
+        cache.onBoardChanged(new BoardChangedEvent(100L));
+        cache.get(0, 3);
+        cache.onBoardChanged(new BoardChangedEvent(4L));
+        cache.get(0, 3);
+
+        // 3. Then
+        verify(boardRepository, times(2)).findBoardListByCursor(isNull(), isNull(), anyInt());
+    }
+
+    private static BoardListRes board(Long id) {
+        return BoardListRes.builder().id(id).title("제목" + id).likes(0L).comments(0L).views(0L).build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.config.JpaConfig;
+import com.springboot.project.community.config.QuerydslConfig;
+import com.springboot.project.community.dto.board.BoardCursorRes;
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.dto.board.PostCreateReq;
+import com.springboot.project.community.dto.board.PostRes;
+import com.springboot.project.community.dto.board.PostUpdateReq;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.BoardImageBatchWriter;
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.repository.BoardRepository;
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.UserRepository;
+import com.springboot.project.community.service.comment.CommentService;
+import com.springboot.project.community.service.like.LikedPostCache;
+import com.springboot.project.community.util.CursorUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.springboot.project.community.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 게시글 서비스 테스트 (전체 게시글 수, 커서 목록)
+ * - 커밋 후 이벤트로 전체 게시글 수가 반영되므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리
+ *   (롤백되지 않는 데이터가 다른 테스트와 섞이지 않도록 전용 DB 사용)
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:board-service;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QuerydslConfig.class, BoardService.class, BoardImageBatchWriter.class, BoardCounter.class,
+        BoardServiceTest.MeterRegistryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardServiceTest {
+
+    @Autowired private BoardService boardService;
+    @Autowired private BoardCounter boardCounter;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private BoardStatsRepository boardStatsRepository;
+    @Autowired private BoardImageRepository boardImageRepository;
+
+    @MockitoBean private BoardStatsBuffer statsBuffer;
+    @MockitoBean private PostDetailCache postDetailCache;
+    @MockitoBean private BoardListHeadCache boardListHeadCache;
+    @MockitoBean private LikedPostCache likedPostCache;
+    @MockitoBean private CommentService commentService;
+
+    @AfterEach
+    void tearDown() {
+        boardImageRepository.deleteAllInBatch();
+        boardStatsRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("전체 게시글 수 - 작성 시 +1, 수정은 변화 없음, 삭제 시 -1")
+    void boardCount_UnchangedByUpdate() {
+        // 1. Given - 카운터 초기화 (이후 값은 COUNT(*) 없이 이벤트로만 변경)
+        User author = userRepository.save(user(1));
+        long before = boardCounter.get();
+        PostRes created = createPost(author, "제목");
+        assertThat(boardCounter.get()).isEqualTo(before + 1);
+
+        // 2. When
+        boardService.update(author.getUserId(), created.getPostId(),
+                PostUpdateReq.builder().title("수정 제목").contents("수정 내용").build());
+
+        // 3. Then
+        assertThat(boardCounter.get()).isEqualTo(before + 1);
+        boardService.delete(author.getUserId(), created.getPostId());
+        assertThat(boardCounter.get()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("커서 목록 - 다음 페이지가 있을 때만 hasNext / nextCursor, 크기가 딱 맞는 마지막 페이지는 hasNext=false")
+    void getBoardListByCursor_HasNextBoundary() {
+        // 1. Given - 게시글 3개
+        User author = userRepository.save(user(1));
+        for (int i = 1; i <= 3; i++) {
+            createPost(author, "제목" + i);
+        }
+
+        // 2. When
+        BoardCursorRes first = boardService.getBoardListByCursor(null, 2, null);
+        BoardCursorRes second = boardService.getBoardListByCursor(first.getNextCursor(), 2, null);
+        BoardCursorRes exact = boardService.getBoardListByCursor(null, 3, null);
+
+        // 3. Then
+        BoardListRes lastOfFirst = first.getBoards().get(1);
+        assertThat(first.getBoards()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(CursorUtil.encode(lastOfFirst.getCreatedAt(), lastOfFirst.getId()));
+
+        assertThat(second.getBoards()).hasSize(1);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getBoards().get(0).getId())
+                .isNotIn(first.getBoards().stream().map(BoardListRes::getId).toList());
+
+        assertThat(exact.getBoards()).hasSize(3);
+        assertThat(exact.isHasNext()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 목록 - 형식이 잘못된 커서는 IllegalArgumentException")
+    void getBoardListByCursor_RejectsMalformedCursor() {
+        String missingId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-01-01T00:00".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> boardService.getBoardListByCursor("not-a-cursor!", 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> boardService.getBoardListByCursor(missingId, 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - 작성 시각은 created_at 정밀도(초)로 저장되고, 목록 캐시 이벤트도 같은 값")
+    void create_CreatedAtMatchesColumnPrecision() {
+        // 1. Given
+        User author = userRepository.save(user(1));
+
+        // 2. When
+        PostRes created = createPost(author, "제목");
+
+        // 3. Then
+        ArgumentCaptor<BoardCreatedEvent> event = ArgumentCaptor.forClass(BoardCreatedEvent.class);
+        verify(boardListHeadCache).onBoardCreated(event.capture());
+        Board saved = boardRepository.findById(created.getPostId()).orElseThrow();
+        assertThat(saved.getCreatedAt().getNano()).isZero();
+        assertThat(event.getValue().board().getCreatedAt()).isEqualTo(saved.getCreatedAt());
+    }
+
+    private PostRes createPost(User author, String title) {
+        return boardService.create(author.getUserId(), PostCreateReq.builder().title(title).contents("내용").build());
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.BoardStatsRepositoryCustom.StatsDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 게시글 통계 버퍼 테스트 (flush 와 증감이 동시에 일어나도 증감분 유실 없음)
+ */
+class BoardStatsBufferTest {
+
+    private final AtomicLong flushedLikes = new AtomicLong();
+    private final AtomicLong flushedComments = new AtomicLong();
+
+    private BoardStatsRepository boardStatsRepository;
+    private BoardStatsBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        boardStatsRepository = mock(BoardStatsRepository.class);
+        doAnswer(invocation -> {
+            Map<Long, StatsDelta> deltas = invocation.getArgument(0);
+            deltas.values().forEach(delta -> {
+                flushedLikes.addAndGet(delta.likes());
+                flushedComments.addAndGet(delta.comments());
+            });
+            return null;
+        }).when(boardStatsRepository).addStatsDeltas(anyMap());
+        buffer = new BoardStatsBuffer(boardStatsRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("flush - 증감과 동시에 반복 실행해도 모든 증감분이 반영됨")
+    void flush_ConcurrentWithToggles() throws Exception {
+        // 1. Given - 게시글 여러 개에 드문드문 증감 (변경이 없던 게시글은 flush 시 버퍼에서 제거됨)
+        int writers = 8;
+        int togglesPerWriter = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        // 2. When
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (writing.get()) {
+                buffer.flush();
+            }
+            return null;
+        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < togglesPerWriter; i++) {
+                    buffer.add(random.nextLong(1, 64), 1, 1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        writing.set(false);
+        flusher.get();
+        executor.shutdown();
+        buffer.flush();
+
+        // 3. Then
+        long expected = (long) writers * togglesPerWriter;
+        assertThat(flushedLikes.get()).isEqualTo(expected);
+        assertThat(flushedComments.get()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("flush - DB 반영 실패 시 증감분을 버퍼에 되돌림")
+    void flush_RestoresOnFailure() {
+        // 1. Given
+        buffer.add(1L, 2, 1);
+        doThrow(new IllegalStateException("DB 오류")).when(boardStatsRepository).addStatsDeltas(any());
+
+        // 2. When
+        buffer.flush();
+
+        // 3. Then
+        assertThat(buffer.getPending(1L)).isEqualTo(new StatsDelta(0, 2, 1));
+    }
+}
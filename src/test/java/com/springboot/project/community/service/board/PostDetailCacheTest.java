@@ -0,0 +1,110 @@
+package com.springboot.project.community.service.board;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 상세 캐시 테스트 (용량 / TTL / 무효화 / 메트릭)
+ */
+class PostDetailCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private PostDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PostDetailCache(meterRegistry, 2, Duration.ofSeconds(30), now::get);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터 캐시 사용, hit/miss 메트릭 기록")
+    void get_CachesLoadedDetail() {
+        // 1. When
+        CachedPostDetail first = cache.get(1L, this::load);
+        CachedPostDetail second = cache.get(1L, this::load);
+
+        // 2. Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나거나 용량을 넘으면 다시 조회 (LRU)")
+    void get_ExpiresAndEvicts() {
+        // 1. Given
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load); // 1 최근 사용 → 2 가 가장 오래됨
+
+        // 2. When - 용량 초과
+        cache.get(3L, this::load);
+
+        // 3. Then
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get(1L, this::load);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(2L, this::load);
+        assertThat(loads.get()).isEqualTo(4);
+
+        // TTL 만료
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.get(2L, this::load);
+        assertThat(loads.get()).isEqualTo(5);
+        assertThat(meterRegistry.get("board.detail.cache.evictions").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트로 제거, 조회 중 제거되면 조회한 값은 저장하지 않음")
+    void invalidate_DuringLoadSkipsPut() {
+        // 1. Given
+        cache.get(1L, this::load);
+
+        // 2. When
+        cache.onBoardChanged(new BoardChangedEvent(1L));
+        cache.get(1L, postId -> {
+            cache.invalidate(postId); // 조회 도중 다른 트랜잭션이 커밋
+            return load(postId);
+        });
+
+        // 3. Then
+        assertThat(cache.size()).isZero();
+        cache.get(1L, this::load);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 실패(없는 게시글)는 캐시하지 않음")
+    void get_DoesNotCacheFailure() {
+        assertThatThrownBy(() -> cache.get(9L, postId -> {
+            throw new IllegalArgumentException("게시글이 존재하지 않습니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private CachedPostDetail load(Long postId) {
+        loads.incrementAndGet();
+        return new CachedPostDetail(postId, "제목", "내용", "작성자", 1L, null,
+                null, null, null, List.of(), null);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("board.detail.cache.gets").tag("result", result).counter().count();
+    }
+}
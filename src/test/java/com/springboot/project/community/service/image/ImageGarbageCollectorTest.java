@@ -0,0 +1,219 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.config.JpaConfig;
+import com.springboot.project.community.config.QuerydslConfig;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardImage;
+import com.springboot.project.community.entity.ImageFile;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.repository.ImageFileRepository;
+import com.springboot.project.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static com.springboot.project.community.support.TestFixtures.board;
+import static com.springboot.project.community.support.TestFixtures.persist;
+import static com.springboot.project.community.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 이미지 GC 테스트
+ * - 참조 수 재계산, 삭제 대기, 유예 기간, 물리 삭제 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QuerydslConfig.class})
+class ImageGarbageCollectorTest {
+
+    @TempDir
+    Path rootDir;
+
+    @Autowired private ImageFileRepository imageFileRepository;
+    @Autowired private BoardImageRepository boardImageRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private EntityManager em;
+
+    private LocalImageStore imageStore;
+    private ImageGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        imageStore = new LocalImageStore(rootDir.toString(), "/api/images/", 1024);
+        collector = new ImageGarbageCollector(imageFileRepository, boardImageRepository, userRepository,
+                imageStore, transactionManager, true, 2, 100_000, 24);
+    }
+
+    @Test
+    @DisplayName("재계산 - ref_count 를 실제 참조 수로 맞추고, 유예 기간이 지난 미사용 이미지만 삭제 대기")
+    void reconcile_FixesRefCountAndSoftDeletes() throws InterruptedException {
+        // 1. Given
+        User user = persist(em, user(1, "/api/images/profile.png"));
+        Board board = persist(em, board(user));
+        em.persist(BoardImage.builder().board(board).user(user).imageUrl("/api/images/post.png").sortOrder(0).build());
+
+        ImageFile profile = persistImageFile("/api/images/profile.png", 3, LocalDateTime.now().minusDays(7));
+        ImageFile post = persistImageFile("/api/images/post.png", 0, LocalDateTime.now().minusDays(7));
+        ImageFile orphan = persistImageFile("/api/images/orphan.png", 1, LocalDateTime.now().minusDays(7));
+        ImageFile justUploaded = persistImageFile("/api/images/new.png", 1, LocalDateTime.now());
+        em.flush();
+        em.clear();
+
+        // 2. When
+        int changed = collector.reconcile();
+        em.clear();
+
+        // 3. Then
+        assertThat(changed).isEqualTo(4);
+        assertThat(reload(profile).getRefCount()).isEqualTo(1);
+        assertThat(reload(post).getRefCount()).isEqualTo(1);
+        assertThat(reload(orphan).getIsActive()).isFalse();
+        assertThat(reload(orphan).getDeletedAt()).isNotNull();
+        assertThat(reload(justUploaded).getIsActive()).isTrue(); // 업로드 직후는 유지
+        assertThat(reload(justUploaded).getRefCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("정리 - 유예 기간이 지난 삭제 대기 이미지는 행과 파일 삭제, 다시 참조되면 활성화")
+    void purge_DeletesRowsAndFiles() throws IOException, InterruptedException {
+        // 1. Given
+        StoredImage stored = storeDaysAgo(new byte[]{1, 2, 3}, 7);
+        ImageFile expired = persistImageFile(stored.url(), 0, LocalDateTime.now().minusDays(7));
+        expired.setIsActive(false);
+        expired.setDeletedAt(LocalDateTime.now().minusDays(2));
+
+        persist(em, user(2, "/api/images/reused.png")); // 삭제 대기 중 프로필에서 다시 사용
+        ImageFile reused = persistImageFile("/api/images/reused.png", 0, LocalDateTime.now().minusDays(7));
+        reused.setIsActive(false);
+        reused.setDeletedAt(LocalDateTime.now().minusDays(2));
+        em.flush();
+        em.clear();
+
+        // 2. When
+        int purged = collector.purge();
+        em.clear();
+
+        // 3. Then
+        assertThat(purged).isEqualTo(1);
+        assertThat(imageFileRepository.findById(expired.getImageId())).isEmpty();
+        assertThat(imageStore.size(stored.key())).isEmpty();
+        assertThat(reload(reused).getIsActive()).isTrue();
+        assertThat(reload(reused).getRefCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리 - 행 삭제 직후 같은 내용이 다시 업로드되면 파일은 남김")
+    void purge_KeepsFileReuploadedAfterDelete() throws IOException, InterruptedException {
+        // 1. Given - 행 삭제 직후(파일 삭제 전) 같은 URL 로 재등록
+        StoredImage stored = storeDaysAgo(new byte[]{4, 5, 6}, 7);
+        ImageFile expired = persistImageFile(stored.url(), 0, LocalDateTime.now().minusDays(7));
+        expired.setIsActive(false);
+        expired.setDeletedAt(LocalDateTime.now().minusDays(2));
+        em.flush();
+        em.clear();
+
+        ImageFileRepository reuploading = mock(ImageFileRepository.class, delegatesTo(imageFileRepository));
+        doAnswer(invocation -> {
+            imageFileRepository.deleteAllInBatch(invocation.getArgument(0));
+            imageFileRepository.upsertRef(stored.url());
+            return null;
+        }).when(reuploading).deleteAllInBatch(anyIterable());
+        ImageGarbageCollector racingCollector = new ImageGarbageCollector(reuploading, boardImageRepository,
+                userRepository, imageStore, transactionManager, true, 2, 100_000, 24);
+
+        // 2. When
+        int purged = racingCollector.purge();
+        em.clear();
+
+        // 3. Then
+        assertThat(purged).isEqualTo(1);
+        assertThat(imageFileRepository.findAll()).extracting(ImageFile::getUrl).containsExactly(stored.url());
+        assertThat(imageStore.size(stored.key())).isPresent();
+    }
+
+    @Test
+    @DisplayName("정리 - 참조 확인 후 파일 삭제 전에 같은 내용이 업로드되면(행은 아직 미커밋) 파일은 남김")
+    void purge_KeepsFileStoredBeforeUploadCommits() throws IOException, InterruptedException {
+        // 1. Given - 오래전에 저장된 파일과 유예 기간이 지난 삭제 대기 행
+        byte[] bytes = {7, 8, 9};
+        StoredImage stored = storeDaysAgo(bytes, 7);
+        ImageFile expired = persistImageFile(stored.url(), 0, LocalDateTime.now().minusDays(7));
+        expired.setIsActive(false);
+        expired.setDeletedAt(LocalDateTime.now().minusDays(2));
+        em.flush();
+        em.clear();
+
+        // GC 의 참조 확인(행 없음) 직후 같은 내용이 업로드되어 파일 저장 (등록 행은 아직 커밋 전)
+        ImageFileRepository uploading = mock(ImageFileRepository.class, delegatesTo(imageFileRepository));
+        doAnswer(invocation -> {
+            boolean exists = imageFileRepository.existsByUrlOrThumbnailUrl(
+                    invocation.getArgument(0), invocation.getArgument(1));
+            imageStore.store(new ByteArrayInputStream(bytes), "png");
+            return exists;
+        }).when(uploading).existsByUrlOrThumbnailUrl(anyString(), anyString());
+        ImageGarbageCollector racingCollector = new ImageGarbageCollector(uploading, boardImageRepository,
+                userRepository, imageStore, transactionManager, true, 2, 100_000, 24);
+
+        // 2. When - GC 가 파일 삭제까지 마친 뒤 업로드 커밋
+        int purged = racingCollector.purge();
+        imageFileRepository.upsertRef(stored.url());
+        em.clear();
+
+        // 3. Then - 등록된 행이 가리키는 파일이 남아 있음
+        assertThat(purged).isEqualTo(1);
+        assertThat(imageFileRepository.findAll()).extracting(ImageFile::getUrl).containsExactly(stored.url());
+        assertThat(imageStore.size(stored.key())).isPresent();
+    }
+
+    /**
+     * days 일 전에 저장된 것처럼 파일 수정 시각을 바꿔 저장
+     */
+    private StoredImage storeDaysAgo(byte[] bytes, int days) throws IOException {
+        StoredImage stored = imageStore.store(new ByteArrayInputStream(bytes), "png");
+        String key = stored.key();
+        Path file = rootDir.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(days))));
+        return stored;
+    }
+
+    private ImageFile reload(ImageFile file) {
+        return imageFileRepository.findById(file.getImageId()).orElseThrow();
+    }
+
+    private ImageFile persistImageFile(String url, int refCount, LocalDateTime createdAt) {
+        ImageFile file = ImageFile.builder().url(url).refCount(refCount).isActive(true).build();
+        em.persist(file);
+        em.flush();
+        // created_at 은 auditing 으로 채워지므로 직접 변경
+        em.createQuery("UPDATE ImageFile i SET i.createdAt = :createdAt WHERE i.imageId = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", file.getImageId())
+                .executeUpdate();
+        return file;
+    }
+}
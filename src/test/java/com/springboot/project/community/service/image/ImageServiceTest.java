@@ -0,0 +1,144 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.repository.ImageFileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 이미지 저장소 / 업로드 / data URL 변환 테스트
+ */
+class ImageServiceTest {
+
+    @TempDir
+    Path rootDir;
+
+    private LocalImageStore imageStore;
+    private ImageFileRepository imageFileRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private PlatformTransactionManager transactionManager;
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        imageStore = new LocalImageStore(rootDir.toString(), "/api/images/", 1024);
+        imageFileRepository = mock(ImageFileRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        imageService = new ImageService(imageStore, imageFileRepository, eventPublisher, transactionManager);
+    }
+
+    @Test
+    @DisplayName("업로드 - 매직 넘버로 형식 판별, 같은 내용 재업로드는 같은 URL 로 upsert, 썸네일이 없을 때만 생성 요청")
+    void upload_DeduplicatesByContent() throws IOException {
+        // 1. Given - 첫 업로드 후 썸네일 생성됨
+        byte[] gif = {'G', 'I', 'F', '8', '9', 'a', 1, 0, 1, 0, 0, 0, 0};
+        when(imageFileRepository.findThumbnailUrlByUrl(any()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of("thumb.gif"));
+
+        // 2. When
+        StoredImage first = imageService.upload(new ByteArrayInputStream(gif));
+        StoredImage second = imageService.upload(new ByteArrayInputStream(gif));
+
+        // 3. Then
+        assertThat(first.url()).endsWith(".gif");
+        assertThat(second.url()).isEqualTo(first.url());
+        assertThat(first.size()).isEqualTo(gif.length);
+        verify(imageFileRepository, times(2)).upsertRef(first.url());
+        verify(eventPublisher, times(1)).publishEvent(any(ImageStoredEvent.class));
+    }
+
+    @Test
+    @DisplayName("업로드 - 파일 저장은 트랜잭션 밖에서 끝내고, 등록 upsert 만 트랜잭션에서 실행")
+    void upload_StoresFileBeforeTransaction() throws IOException {
+        // 1. Given - 트랜잭션 시작 시점에 파일이 이미 저장되어 있는지 기록
+        byte[] gif = {'G', 'I', 'F', '8', '9', 'a', 2, 0, 2, 0, 0, 0, 0};
+        AtomicBoolean storedBeforeTransaction = new AtomicBoolean();
+        when(imageFileRepository.findThumbnailUrlByUrl(any())).thenReturn(Optional.empty());
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            try (Stream<Path> files = Files.walk(rootDir)) {
+                storedBeforeTransaction.set(files.anyMatch(file -> file.toString().endsWith(".gif")));
+            }
+            return null;
+        });
+
+        // 2. When
+        StoredImage stored = imageService.upload(new ByteArrayInputStream(gif));
+
+        // 3. Then
+        assertThat(storedBeforeTransaction).isTrue();
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(imageFileRepository).upsertRef(stored.url());
+    }
+
+    @Test
+    @DisplayName("업로드 - 이미지가 아닌 파일은 IllegalArgumentException")
+    void upload_RejectsNonImage() {
+        byte[] html = "<html></html>".getBytes();
+
+        assertThatThrownBy(() -> imageService.upload(new ByteArrayInputStream(html)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("data URL - 디코딩하여 저장 후 URL 반환, 같은 내용은 같은 키")
+    void resolveProfileImage_StoresDataUrl() throws IOException {
+        // 1. Given
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3, 4};
+        String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(png);
+
+        // 2. When
+        String first = imageService.resolveProfileImage(dataUrl);
+        String second = imageService.resolveProfileImage(dataUrl);
+
+        // 3. Then
+        assertThat(first).startsWith("/api/images/").endsWith(".png");
+        assertThat(second).isEqualTo(first);
+
+        String key = imageStore.keyOf(first).orElseThrow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        imageStore.transferTo(key, Channels.newChannel(out));
+        assertThat(out.toByteArray()).isEqualTo(png);
+    }
+
+    @Test
+    @DisplayName("URL 은 그대로, 빈 값은 null, 허용하지 않는 형식/용량 초과는 IllegalArgumentException")
+    void resolveProfileImage_Validation() {
+        String tooLarge = "data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[2048]);
+
+        assertThat(imageService.resolveProfileImage("https://cdn.example.com/a.png"))
+                .isEqualTo("https://cdn.example.com/a.png");
+        assertThat(imageService.resolveProfileImage(" ")).isNull();
+        assertThatThrownBy(() -> imageService.resolveProfileImage("data:text/html;base64,AAAA"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> imageService.resolveProfileImage(tooLarge))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("키 검증 - 경로 조작이 가능한 키는 거부")
+    void keyOf_RejectsInvalidKey() {
+        assertThat(imageStore.keyOf("/api/images/../../etc/passwd")).isEmpty();
+        assertThat(imageStore.keyOf("https://other.example.com/a.png")).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.repository.ImageFileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 썸네일 생성 테스트
+ */
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path rootDir;
+
+    private LocalImageStore imageStore;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        imageStore = new LocalImageStore(rootDir.toString(), "/api/images/", 10 * 1024 * 1024);
+        thumbnailService = new ThumbnailService(imageStore,
+                mock(ImageFileRepository.class), mock(BoardImageRepository.class),
+                mock(PlatformTransactionManager.class), 200, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        thumbnailService.shutdown();
+    }
+
+    @Test
+    @DisplayName("큰 이미지 - 긴 변이 200px 이 되도록 비율 유지 축소 후 별도 키로 저장")
+    void createThumbnail_ScalesDown() throws IOException {
+        // 1. Given - 1600x800 PNG
+        StoredImage original = storePng(1600, 800);
+
+        // 2. When
+        String thumbnailUrl = thumbnailService.createThumbnail(original.key());
+
+        // 3. Then
+        assertThat(thumbnailUrl).isNotEqualTo(original.url()).endsWith(".png");
+        try (InputStream in = imageStore.open(imageStore.keyOf(thumbnailUrl).orElseThrow())) {
+            BufferedImage thumbnail = ImageIO.read(in);
+            assertThat(thumbnail.getWidth()).isEqualTo(200);
+            assertThat(thumbnail.getHeight()).isEqualTo(100);
+        }
+    }
+
+    @Test
+    @DisplayName("작은 이미지 - 축소하지 않고 원본 URL 을 그대로 사용")
+    void createThumbnail_KeepsSmallOriginal() throws IOException {
+        StoredImage original = storePng(120, 80);
+
+        assertThat(thumbnailService.createThumbnail(original.key())).isEqualTo(original.url());
+    }
+
+    private StoredImage storePng(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return imageStore.store(new ByteArrayInputStream(out.toByteArray()), "png");
+    }
+}
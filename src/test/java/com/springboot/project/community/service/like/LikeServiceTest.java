@@ -0,0 +1,182 @@
+package com.springboot.project.community.service.like;
+
+import com.springboot.project.community.config.JpaConfig;
+import com.springboot.project.community.config.QuerydslConfig;
+import com.springboot.project.community.dto.like.LikeToggleRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardStats;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.BoardLikeRepository;
+import com.springboot.project.community.repository.BoardRepository;
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.UserRepository;
+import com.springboot.project.community.service.board.BoardStatsBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.springboot.project.community.support.TestFixtures.board;
+import static com.springboot.project.community.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좋아요 토글 테스트
+ * - 토글 1회당 SQL 2회 (upsert, 상태 조회), 좋아요 수는 BoardStatsBuffer 에서 모아서 반영
+ * - 커밋 후 이벤트로 버퍼에 반영되므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리
+ *   (롤백되지 않는 데이터가 다른 테스트와 섞이지 않도록 전용 DB 사용)
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:like-service;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QuerydslConfig.class, LikeService.class, BoardStatsBuffer.class,
+        LikeServiceTest.MeterRegistryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeServiceTest {
+
+    @Autowired private LikeService likeService;
+    @Autowired private BoardStatsBuffer statsBuffer;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private BoardLikeRepository boardLikeRepository;
+    @Autowired private BoardStatsRepository boardStatsRepository;
+    @Autowired private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statsBuffer.flush();
+        boardLikeRepository.deleteAllInBatch();
+        boardStatsRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("토글 - 좋아요 → 취소 → 좋아요, 토글마다 SQL 2회, 좋아요 수는 flush 시 반영")
+    void toggle_TwoStatementsPerClick() {
+        // 1. Given - 통계 행이 없는 게시글
+        User user = userRepository.save(user(0));
+        Board board = boardRepository.save(board(user));
+
+        // 2. When
+        statistics.clear();
+        LikeToggleRes first = likeService.toggle(user.getUserId(), board.getPostId());
+        long statements = statistics.getPrepareStatementCount();
+        LikeToggleRes second = likeService.toggle(user.getUserId(), board.getPostId());
+        LikeToggleRes third = likeService.toggle(user.getUserId(), board.getPostId());
+        statsBuffer.flush();
+
+        // 3. Then
+        assertThat(statements).isEqualTo(2);
+        assertThat(first.isLiked()).isTrue();
+        assertThat(first.getLikeCount()).isEqualTo(1L);
+        assertThat(second.isLiked()).isFalse();
+        assertThat(second.getLikeCount()).isEqualTo(0L);
+        assertThat(third.isLiked()).isTrue();
+        assertThat(third.getLikeCount()).isEqualTo(1L);
+        assertThat(likeCountOf(board)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("토글 - 존재하지 않는 게시글은 IllegalArgumentException, 좋아요 수 변화 없음")
+    void toggle_UnknownPost() {
+        User user = userRepository.save(user(0));
+
+        assertThatThrownBy(() -> likeService.toggle(user.getUserId(), 999_999L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(statsBuffer.getPending(999_999L).isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 토글 - 사용자 300명이 같은 게시글을 동시에 1~3회 토글해도 좋아요 여부 / 좋아요 수가 정확")
+    void toggle_ConcurrentTogglers() throws Exception {
+        // 1. Given - 사용자 i 는 (i % 3) + 1 회 토글 → 홀수 회면 최종 좋아요
+        int userCount = 300;
+        User author = userRepository.save(user(0));
+        Board board = boardRepository.save(board(author));
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= userCount; i++) {
+            users.add(userRepository.save(user(i)));
+        }
+
+        // 2. When
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            int toggles = (i % 3) + 1;
+            tasks.add(() -> {
+                start.await();
+                LikeToggleRes res = null;
+                for (int t = 0; t < toggles; t++) {
+                    res = likeService.toggle(user.getUserId(), board.getPostId());
+                }
+                return res.isLiked();
+            });
+        }
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (Callable<Boolean> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+
+        long expectedLikes = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            boolean liked = futures.get(i).get();
+            boolean expected = ((i % 3) + 1) % 2 == 1;
+            assertThat(liked).isEqualTo(expected);
+            if (expected) {
+                expectedLikes++;
+            }
+        }
+        executor.shutdown();
+        statsBuffer.flush();
+
+        // 3. Then
+        assertThat(boardLikeRepository.countByBoard_PostIdAndDeletedFalse(board.getPostId())).isEqualTo(expectedLikes);
+        assertThat(likeCountOf(board)).isEqualTo(expectedLikes);
+    }
+
+    private long likeCountOf(Board board) {
+        return boardStatsRepository.findById(board.getPostId()).map(BoardStats::getLikeCount).orElse(0L);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.springboot.project.community.service.like;
+
+import com.springboot.project.community.repository.BoardLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 사용자별 좋아요 게시글 캐시 테스트
+ */
+class LikedPostCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private BoardLikeRepository boardLikeRepository;
+    private PlatformTransactionManager transactionManager;
+    private LikedPostCache cache;
+
+    @BeforeEach
+    void setUp() {
+        boardLikeRepository = mock(BoardLikeRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        cache = new LikedPostCache(boardLikeRepository, transactionManager, new SimpleMeterRegistry(),
+                2, 3, Duration.ofSeconds(60), now::get);
+    }
+
+    @Test
+    @DisplayName("처음 한 번만 DB 에서 적재, 이후 좋아요 여부는 메모리에서 확인")
+    void isLiked_LoadsOnce() {
+        // 1. Given
+        when(boardLikeRepository.findLikedPostIdsByUserId(eq(1L), any(Pageable.class))).thenReturn(List.of(30L, 10L));
+
+        // 2. When / 3. Then
+        assertThat(cache.isLiked(1L, 10L)).isTrue();
+        assertThat(cache.isLiked(1L, 20L)).isFalse();
+        assertThat(cache.filterLiked(1L, List.of(10L, 20L, 30L))).containsExactlyInAnyOrder(10L, 30L);
+        verify(boardLikeRepository, times(1)).findLikedPostIdsByUserId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("토글 이벤트로 캐시된 목록에 추가/제거")
+    void onLikeToggled_UpdatesCachedUser() {
+        // 1. Given
+        when(boardLikeRepository.findLikedPostIdsByUserId(eq(1L), any(Pageable.class))).thenReturn(List.of(10L));
+        cache.isLiked(1L, 10L);
+
+        // 2. When
+        cache.onLikeToggled(new LikeToggledEvent(1L, 5L, true));
+        cache.onLikeToggled(new LikeToggledEvent(1L, 10L, false));
+
+        // 3. Then
+        assertThat(cache.filterLiked(1L, List.of(5L, 10L))).containsExactly(5L);
+        verify(boardLikeRepository, times(1)).findLikedPostIdsByUserId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("적재 후 TTL 이 지나면 DB 에서 다시 적재, 토글로 만료가 늦춰지지 않음")
+    void expiresAfterTtl() {
+        // 1. Given
+        when(boardLikeRepository.findLikedPostIdsByUserId(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of(10L, 20L));
+        cache.isLiked(1L, 10L);
+
+        // 2. When - TTL 직전 토글, TTL 경과
+        now.set(Duration.ofSeconds(59).toNanos());
+        cache.onLikeToggled(new LikeToggledEvent(1L, 5L, true));
+        boolean beforeExpiry = cache.isLiked(1L, 20L);
+        now.set(Duration.ofSeconds(60).toNanos());
+        boolean afterExpiry = cache.isLiked(1L, 20L);
+
+        // 3. Then
+        assertThat(beforeExpiry).isFalse();
+        assertThat(afterExpiry).isTrue();
+        verify(boardLikeRepository, times(2)).findLikedPostIdsByUserId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 오래 사용하지 않은 사용자 제거")
+    void evictsLeastRecentlyUsedUser() {
+        // 1. Given
+        when(boardLikeRepository.findLikedPostIdsByUserId(any(), any(Pageable.class))).thenReturn(List.of());
+
+        // 2. When
+        cache.isLiked(1L, 1L);
+        cache.isLiked(2L, 1L);
+        cache.isLiked(1L, 1L); // 1 최근 사용 → 2 가 가장 오래됨
+        cache.isLiked(3L, 1L);
+        cache.isLiked(1L, 1L);
+        cache.isLiked(2L, 1L);
+
+        // 3. Then
+        assertThat(cache.size()).isEqualTo(2);
+        verify(boardLikeRepository, times(1)).findLikedPostIdsByUserId(eq(1L), any(Pageable.class));
+        verify(boardLikeRepository, times(2)).findLikedPostIdsByUserId(eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("좋아요가 상한을 넘는 사용자는 캐시하지 않고 DB 조회")
+    void tooManyLikes_FallsBackToDatabase() {
+        // 1. Given - 상한 3개
+        when(boardLikeRepository.findLikedPostIdsByUserId(eq(1L), any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(boardLikeRepository.findLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of(2L));
+
+        // 2. When
+        Set<Long> first = cache.filterLiked(1L, List.of(1L, 2L));
+        Set<Long> second = cache.filterLiked(1L, List.of(1L, 2L));
+
+        // 3. Then
+        assertThat(first).containsExactly(2L);
+        assertThat(second).containsExactly(2L);
+        verify(boardLikeRepository, times(1)).findLikedPostIdsByUserId(eq(1L), any(Pageable.class));
+        verify(boardLikeRepository, times(2)).findLikedPostIds(eq(1L), anyCollection());
+    }
+
+    @Test
+    @DisplayName("적재 중에 토글이 반영되면 적재 결과를 저장하지 않음")
+    void toggleDuringLoad_SkipsPut() {
+        // 1. Given - 적재 도중 다른 요청의 토글 커밋
+        when(boardLikeRepository.findLikedPostIdsByUserId(eq(1L), any(Pageable.class))).thenAnswer(invocation -> {
+            cache.onLikeToggled(new LikeToggledEvent(1L, 7L, true));
+            return List.of();
+        });
+
+        // 2. When
+        cache.isLiked(1L, 7L);
+
+        // 3. Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 중 다른 사용자의 토글은 적재 결과 저장에 영향 없음")
+    void otherUserToggleDuringLoad_KeepsPut() {
+        // 1. Given - 사용자 1 적재 도중 사용자 2 의 토글 커밋
+        when(boardLikeRepository.findLikedPostIdsByUserId(eq(1L), any(Pageable.class))).thenAnswer(invocation -> {
+            cache.onLikeToggled(new LikeToggledEvent(2L, 7L, true));
+            return List.of(7L);
+        });
+
+        // 2. When
+        cache.isLiked(1L, 7L);
+        cache.isLiked(1L, 7L);
+
+        // 3. Then
+        assertThat(cache.size()).isEqualTo(1);
+        verify(boardLikeRepository, times(1)).findLikedPostIdsByUserId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("적재는 호출자 트랜잭션과 별도의 새 읽기 전용 트랜잭션에서 실행")
+    void loadsInNewReadOnlyTransaction() {
+        // 1. Given
+        when(boardLikeRepository.findLikedPostIdsByUserId(eq(1L), any(Pageable.class))).thenReturn(List.of(10L));
+
+        // 2. When
+        cache.isLiked(1L, 10L);
+
+        // 3. Then
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                        && definition.isReadOnly()));
+    }
+}
@@ -0,0 +1,51 @@
+package com.springboot.project.community.support;
+
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.User;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 테스트 공용 엔티티 픽스처 (저장하지 않은 엔티티 생성)
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * 사용자 (이메일 user{seq}@test.com, 닉네임 작성자{seq}, 프로필 profile{seq}.png)
+     */
+    public static User user(int seq) {
+        return user(seq, "profile" + seq + ".png");
+    }
+
+    public static User user(int seq, String image) {
+        return User.builder()
+                .email("user" + seq + "@test.com")
+                .password("password")
+                .nickname("작성자" + seq)
+                .image(image)
+                .build();
+    }
+
+    public static Board board(User author) {
+        return board(author, "제목");
+    }
+
+    public static Board board(User author, String title) {
+        return Board.builder()
+                .author(author)
+                .title(title)
+                .contents("내용")
+                .contentsPreview(Board.createPreview("내용"))
+                .build();
+    }
+
+    /**
+     * 엔티티 저장 후 그대로 반환
+     */
+    public static <T> T persist(EntityManager em, T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
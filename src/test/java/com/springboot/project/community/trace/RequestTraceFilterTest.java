@@ -0,0 +1,67 @@
+package com.springboot.project.community.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 추적 필터 테스트 (trace ID / 샘플링 / MDC 정리)
+ */
+class RequestTraceFilterTest {
+
+    @Test
+    @DisplayName("요청 헤더의 trace ID 를 MDC / 응답 헤더에 사용하고 요청 후 MDC 정리")
+    void propagatesTraceId() throws Exception {
+        // 1. Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+        request.addHeader(RequestTraceFilter.TRACE_ID_HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> traceIdInChain = new AtomicReference<>();
+
+        // 2. When
+        new RequestTraceFilter(0.0, 1000).doFilter(request, response,
+                (req, res) -> traceIdInChain.set(MDC.get(RequestTrace.TRACE_ID)));
+
+        // 3. Then
+        assertThat(traceIdInChain.get()).isEqualTo("abc-123");
+        assertThat(response.getHeader(RequestTraceFilter.TRACE_ID_HEADER)).isEqualTo("abc-123");
+        assertThat(MDC.get(RequestTrace.TRACE_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 trace ID 는 새로 생성")
+    void replacesInvalidTraceId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+        request.addHeader(RequestTraceFilter.TRACE_ID_HEADER, "bad\nid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new RequestTraceFilter(0.0, 1000).doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getHeader(RequestTraceFilter.TRACE_ID_HEADER)).matches("[0-9a-f]{1,16}");
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 1 이면 모든 요청 샘플링, 0 이면 샘플링 없음")
+    void samplesByRate() throws Exception {
+        assertThat(sampledDuringChain(1.0)).isTrue();
+        assertThat(sampledDuringChain(0.0)).isFalse();
+        assertThat(RequestTrace.isSampled()).isFalse();
+    }
+
+    private boolean sampledDuringChain(double sampleRate) throws Exception {
+        AtomicBoolean sampled = new AtomicBoolean();
+        new RequestTraceFilter(sampleRate, 1000).doFilter(
+                new MockHttpServletRequest("GET", "/api/boards"),
+                new MockHttpServletResponse(),
+                (req, res) -> sampled.set(RequestTrace.isSampled()));
+        return sampled.get();
+    }
+}